@@ -0,0 +1,162 @@
+package main;
+
+import model.Broadphase;
+import model.HeadlessBatch;
+import model.HeadlessSimulation;
+import model.ProjectilePool;
+import model.ReplayPlayer;
+import model.ReplayRecorder;
+import view.ResourceManager;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * HeadlessMain Class
+ *
+ * Entry point for running the game without a display (e.g. on a Linux server).
+ * The simulation is stepped as fast as the CPU allows and a summary is printed at the end.
+ *
+ * Usage: java main.HeadlessMain [--steps N] [--seed N] [--runs N] [--threads N]
+ *                               [--broadphase SPATIAL_HASH|SORT_AND_SWEEP] [--sprites]
+ *                               [--record FILE] [--replay FILE [--seek STEP]]
+ * --steps       Number of fixed steps to run (default: 10 game minutes).
+ * --seed        Seed of the autopilot (of the first run if there are many).
+ * --runs        Number of independent games, run in parallel (default: 1).
+ * --threads     Worker threads for the parallel runs (default: one per core).
+ * --broadphase  Collision broadphase to use.
+ * --sprites     Load the images, so the collisions use the pixel-perfect masks like the real game
+ *               (by default the sprites stay null and only the geometric hitboxes are used).
+ * --record      Records the autopilot's input to a replay file.
+ * --replay      Plays back a replay file at full speed instead of the autopilot
+ *               (until its end, or --steps if given).
+ * --seek        Starts the replay at this step (restores the nearest keyframe, then re-simulates the rest).
+ */
+public class HeadlessMain {
+
+    public static void main(String[] args) throws IOException {
+        // 1. Never open a display (must be set before any AWT class is used)
+        System.setProperty("java.awt.headless", "true");
+
+        // 2. Parse the arguments
+        long steps = -1; // Default: 10 game minutes, or the whole replay
+        long seed = 1;
+        Broadphase.Type broadphase = Broadphase.Type.SPATIAL_HASH;
+        boolean sprites = false;
+        int runs = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String recordFile = null;
+        String replayFile = null;
+        long seekStep = -1;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--steps":
+                    steps = Long.parseLong(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--broadphase":
+                    broadphase = Broadphase.Type.valueOf(args[++i]);
+                    break;
+                case "--sprites":
+                    sprites = true;
+                    break;
+                case "--record":
+                    recordFile = args[++i];
+                    break;
+                case "--replay":
+                    replayFile = args[++i];
+                    break;
+                case "--seek":
+                    seekStep = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        if (seekStep >= 0 && (replayFile == null || recordFile != null)) {
+            System.err.println("--seek needs --replay (and cannot be recorded)");
+            System.exit(2);
+        }
+
+        if (sprites) {
+            ResourceManager.loadImages();
+        }
+
+        // 3. Many games: run them in parallel and print the totals
+        if (steps < 0 && replayFile == null) {
+            steps = 10L * 60 * model.GameConstants.FPS;
+        }
+        if (runs > 1) {
+            runBatch(runs, steps, seed, broadphase, threads);
+            return;
+        }
+
+        // 4. Single game (autopilot or replay)
+        HeadlessSimulation simulation;
+        if (replayFile != null) {
+            ReplayPlayer replay = new ReplayPlayer(Paths.get(replayFile));
+            simulation = new HeadlessSimulation(replay);
+            if (seekStep >= 0) {
+                long start = System.nanoTime();
+                simulation.seek(seekStep);
+                System.out.printf("Seeked to step %d in %.1f ms (%d keyframes)%n",
+                        replay.getStep(), (System.nanoTime() - start) / 1e6, replay.getKeyframeCount());
+            }
+            if (steps < 0) steps = replay.getTotalSteps() - replay.getStep();
+        } else {
+            simulation = new HeadlessSimulation(seed);
+        }
+        simulation.getModel().setBroadphase(broadphase);
+
+        if (recordFile != null) {
+            try (ReplayRecorder recorder = new ReplayRecorder(Paths.get(recordFile), simulation.getModel(), simulation.getInput())) {
+                simulation.setRecorder(recorder);
+                simulation.run(steps);
+            }
+        } else {
+            simulation.run(steps);
+        }
+
+        System.out.println(simulation);
+        for (ProjectilePool<?> pool : simulation.getModel().getProjectilePools()) {
+            System.out.println(pool);
+        }
+    }
+
+    private static void runBatch(int runs, long steps, long seed, Broadphase.Type broadphase, int threads) {
+        long start = System.nanoTime();
+        List<HeadlessSimulation> results = HeadlessBatch.run(runs, steps, seed, broadphase, threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long totalSteps = 0;
+        long totalScore = 0;
+        int minScore = Integer.MAX_VALUE;
+        int maxScore = 0;
+        int maxLevel = 0;
+        for (HeadlessSimulation s : results) {
+            int score = s.getModel().getScore();
+            totalSteps += s.getSteps();
+            totalScore += score;
+            minScore = Math.min(minScore, score);
+            maxScore = Math.max(maxScore, score);
+            maxLevel = Math.max(maxLevel, s.getModel().getCurrentLevelIndex());
+        }
+
+        System.out.printf("runs=%d on %d threads in %.2f s (%.0f runs/min, %.0f steps/s)%n",
+                runs, threads, seconds, runs * 60 / seconds, totalSteps / seconds);
+        System.out.printf("score: min=%d, avg=%.1f, max=%d; max level=%d%n",
+                minScore, (double) totalScore / runs, maxScore, maxLevel);
+    }
+}
@@ -1,8 +1,15 @@
 package main;
 
+import model.CheckpointStore;
+import model.ReplayPlayer;
+import view.GameCanvas;
+import view.GameController;
 import view.GamePanel;
 import view.ResourceManager;
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Main Class
@@ -10,10 +17,52 @@ import javax.swing.*;
  * The entry point of the application.
  * It handles the initialization sequence: loading resources, setting up the window,
  * and starting the main GamePanel where the game loop runs.
+ *
+ * Arguments:
+ * --active         Active rendering (GameCanvas + BufferStrategy) instead of Swing repaint().
+ * --record FILE    Records the game to a replay file (saved when the game is closed).
+ * --replay FILE    Plays back a replay file at normal speed instead of the keyboard.
+ * --seek STEP      Starts the replay at this step (e.g. right before a boss fight).
+ * --checkpoint FILE  Where the last checkpoint is saved (default: CheckpointStore.defaultFile()).
+ *                    Not used while recording or replaying.
  */
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        // 0. Parse the arguments
+        boolean active = false;
+        Path recordFile = null;
+        Path replayFile = null;
+        long seekStep = -1;
+        Path checkpointFile = CheckpointStore.defaultFile();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--active":
+                    active = true;
+                    break;
+                case "--record":
+                    recordFile = Paths.get(args[++i]);
+                    break;
+                case "--replay":
+                    replayFile = Paths.get(args[++i]);
+                    break;
+                case "--seek":
+                    seekStep = Long.parseLong(args[++i]);
+                    break;
+                case "--checkpoint":
+                    checkpointFile = Paths.get(args[++i]);
+                    break;
+                default:
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        if (seekStep >= 0 && (replayFile == null || recordFile != null)) {
+            System.err.println("--seek needs --replay (and cannot be recorded)");
+            System.exit(2);
+        }
+
         // 1. Load resources (Images, Fonts) BEFORE creating the window.
         // This ensures all assets are ready in memory when the GamePanel tries to draw them.
         ResourceManager.loadImages();
@@ -24,14 +73,36 @@ public class Main {
         // Ensure the application stops running when the window is closed
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
-        // 3. Add the GamePanel
-        // The GamePanel constructor initializes the GameModel and starts the Game Loop timer.
-        frame.add(new GamePanel());
+        // 3. Create the Controller (it initializes the GameModel)
+        GameController controller = new GameController(replayFile != null ? new ReplayPlayer(replayFile) : null);
+        if (seekStep >= 0) {
+            controller.seek(seekStep);
+        }
+        if (recordFile != null) {
+            controller.recordTo(recordFile);
+        }
+        controller.useCheckpoints(new CheckpointStore(checkpointFile)); // Keyboard games only
+        // Closing the window exits the JVM: save the replay on the way out
+        Runtime.getRuntime().addShutdownHook(new Thread(controller::stop));
 
-        // 4. Finalize Window Layout
-        frame.pack(); // Resize the window to fit the GamePanel's preferred size (Constants)
+        // 4. Add the View (the GamePanel also starts the Game Loop)
+        GameCanvas canvas = null;
+        if (active) {
+            canvas = new GameCanvas(controller);
+            frame.add(canvas);
+        } else {
+            frame.add(new GamePanel(controller));
+        }
+
+        // 5. Finalize Window Layout
+        frame.pack(); // Resize the window to fit the View's preferred size (Constants)
         frame.setLocationRelativeTo(null); // Center the window on the screen
         frame.setVisible(true); // Make the window visible to the user
+
+        // 6. Active mode: the BufferStrategy can only be created once the window is visible
+        if (canvas != null) {
+            canvas.start();
+        }
     }
 
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Apollo Class
@@ -62,7 +65,7 @@ public class Apollo extends Boss {
      */
     private void shootSun(){
         // Spawn a Sun. 'secondPhase' determines if it is a fast/red sun.
-        Sun s = new Sun(x, y, velX, secondPhase, false);
+        Sun s = new Sun(x, y, velX, secondPhase, false, model.getProjectileRandom());
         model.spawnEnemyProjectile(s);
     }
 
@@ -88,29 +91,40 @@ public class Apollo extends Boss {
         }
     }
 
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(velX);
+        out.writeBoolean(secondPhase);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        velX = in.readInt();
+        secondPhase = in.readBoolean();
+        image = secondPhase ? ResourceManager.apolloImg2 : ResourceManager.apolloImg;
+    }
+
     /**
-     * Draws Apollo to the screen.
-     * Includes logic to flip the sprite horizontally based on movement direction.
+     * Flash white if hit recently, otherwise show the normal sprite.
      */
     @Override
-    public void draw(Graphics g) {
-        // Choose image: Flash white if hit recently, otherwise show normal/rage sprite
-        BufferedImage imgToDraw = (flashTimer > 0) ? ResourceManager.apolloHitImg : image;
-
-        if (imgToDraw != null) {
-            // Directional Flipping Logic
-            if (velX > 0) {
-                // Moving RIGHT: Draw normally
-                g.drawImage(imgToDraw, x, y, width, height, null);
-            } else {
-                // Moving LEFT: Flip image horizontally
-                // We draw at (x + width) with a negative width (-width) to mirror it
-                g.drawImage(imgToDraw, x + width, y, -width, height, null);
-            }
-        } else {
-            // Fallback: Draw rectangle if image loading failed
-            g.setColor(Color.ORANGE);
-            g.fillRect(x, y, width, height);
-        }
+    public BufferedImage getSprite() {
+        return (flashTimer > 0) ? ResourceManager.apolloHitImg : image;
+    }
+
+    /**
+     * The sprite faces right: it is mirrored when moving left.
+     * The collision mask follows the same direction.
+     */
+    @Override
+    public boolean isFlipped() {
+        return velX <= 0;
+    }
+
+    @Override
+    public Color getFallbackColor() {
+        return Color.ORANGE;
     }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Arrow Class
@@ -14,6 +17,18 @@ public class Arrow extends Projectile {
 
 
     private int speed;
+
+    /**
+     * Empty Arrow, set up later with init() (used by the ProjectilePool).
+     */
+    Arrow() {
+        // Initialize Projectile properties:
+        // - Alignment: PLAYER (Harms Enemies)
+        // - Power Level: 1 (Weakest projectile type, destroyed by heavier objects)
+        super(0, 0, GameConstants.ARROW_WIDTH, GameConstants.ARROW_HEIGHT, null,
+                Alignment.PLAYER, 1, 0);
+    }
+
     /**
      * Constructor.
      *
@@ -22,13 +37,20 @@ public class Arrow extends Projectile {
      * @param arrowDamage Damage this arrow inflicts on enemies.
      */
     public Arrow(int x, int y, int arrowDamage, int speed, BufferedImage image) {
-        // Initialize Projectile properties:
-        // - Image: Standard Arrow Image
-        // - Alignment: PLAYER (Harms Enemies)
-        // - Power Level: 1 (Weakest projectile type, destroyed by heavier objects)
-        super(x, y, GameConstants.ARROW_WIDTH, GameConstants.ARROW_HEIGHT, image,
-                Alignment.PLAYER, 1, arrowDamage);
+        this();
+        init(x, y, arrowDamage, speed, image);
+    }
+
+    /**
+     * (Re)initializes the Arrow for a new shot.
+     * @return This arrow (to chain with ProjectilePool.acquire()).
+     */
+    public Arrow init(int x, int y, int arrowDamage, int speed, BufferedImage image) {
+        respawn(x, y);
+        this.damage = arrowDamage;
         this.speed = speed;
+        this.image = image;
+        return this;
     }
 
     /**
@@ -45,14 +67,28 @@ public class Arrow extends Projectile {
         }
     }
 
+    /**
+     * Fast projectile (up to ARROW_SPEED2 px per frame): uses swept (continuous) collision.
+     */
     @Override
-    public void draw(Graphics g) {
-        if (ResourceManager.arrowImg != null) {
-            g.drawImage(image, x, y, width, height, null);
-        } else {
-            // Fallback
-            g.setColor(Color.YELLOW);
-            g.fillRect(x, y, width, height);
-        }
+    public boolean isSwept() {
+        return true;
+    }
+
+    @Override
+    public Color getFallbackColor() {
+        return Color.YELLOW;
+    }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(speed);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        speed = in.readInt();
     }
 }
\ No newline at end of file
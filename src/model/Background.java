@@ -1,16 +1,19 @@
 package model;
 
 import view.ResourceManager;
-import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Background Class
  *
  * Handles the infinite scrolling background effect.
- * Instead of requiring a seamless texture, this class uses a "Mirroring" technique:
+ * Instead of requiring a seamless texture, the View uses a "Mirroring" technique:
  * it draws the image normally, then draws a vertically flipped copy above/below it.
  * This ensures the edges always match perfectly, creating a smooth loop.
+ * This class only keeps the scroll position; the tiles are drawn by the GamePanel.
  */
 public class Background {
     private double y;      // Current vertical position (double for precise scrolling)
@@ -18,7 +21,6 @@ public class Background {
     private BufferedImage image;
 
     // Dimensions derived from GameConstants
-    private final int WIDTH = GameConstants.WINDOW_WIDTH;
     private final int HEIGHT = GameConstants.FIELD_HEIGHT / 2; // Height of one "tile"
 
     public Background() {
@@ -48,57 +50,20 @@ public class Background {
         }
     }
 
-    /**
-     * Draws the background tiles.
-     * Checks if we are in "Stage 2" mode to apply specific tiling logic if needed.
-     */
-    public void draw(Graphics g) {
-        if (image == null) return;
-
-        int currentY = (int) y;
-
-        // Stage 2 logic (assumed to use the mirroring technique)
-        if (this.image == ResourceManager.stage2Img){
-            // DRAWING STRATEGY:
-            // We need to cover the entire screen height.
-            // Since our tile is smaller, and the background moves,
-            // we draw a chain of tiles: Normal -> Flipped -> Normal -> Flipped.
-
-            // 1. Draw Normal Tile at current Y
-            drawForceSize(g, currentY, false);
-
-            // 2. Draw Flipped Tile BELOW it (y + HEIGHT)
-            drawForceSize(g, currentY + HEIGHT, true);
+    // --- KEYFRAMES (the image follows the stage, see GameModel) ---
 
-            // 3. Draw Flipped Tile ABOVE it (y - HEIGHT)
-            // Essential for when 'currentY' is near 0
-            drawForceSize(g, currentY - HEIGHT, true);
-
-            // 4. Draw Normal Tile ABOVE that (y - 2*HEIGHT)
-            // Essential for the seamless loop wrap-around
-            drawForceSize(g, currentY - (HEIGHT * 2), false);
-        } else {
-            // Default drawing (static background )
-            g.drawImage(image, 0, GameConstants.HUD_HEIGHT, WIDTH, HEIGHT * 2, null);
-        }
+    void writeState(DataOutput out) throws IOException {
+        out.writeDouble(y);
+        out.writeDouble(speed);
     }
 
-    /**
-     * Helper to draw a tile either normally or vertically flipped.
-     *
-     * @param g Graphics context
-     * @param yPos The Y coordinate to draw at
-     * @param isFlipped If true, mirrors the image vertically
-     */
-    private void drawForceSize(Graphics g, int yPos, boolean isFlipped) {
-        if (!isFlipped) {
-            // Normal Draw
-            g.drawImage(image, 0, yPos, WIDTH, HEIGHT, null);
-        } else {
-            // Flipped Draw:
-            // - Destination Y starts at the bottom of the target area (yPos + HEIGHT)
-            // - Height is negative (-HEIGHT) to draw upwards, effectively flipping it
-            g.drawImage(image, 0, yPos + HEIGHT, WIDTH, -HEIGHT, null);
-        }
+    void readState(DataInput in) throws IOException {
+        y = in.readDouble();
+        speed = in.readDouble();
     }
-}
\ No newline at end of file
+
+    // --- GETTERS (the View draws the tiles from these values, see RenderSnapshot) ---
+    public BufferedImage getImage() { return image; }
+    public double getY() { return y; }
+    public double getSpeed() { return speed; }
+}
@@ -1,6 +1,9 @@
 package model;
 
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * BossProjectile (Abstract)
@@ -37,5 +40,23 @@ public abstract class BossProjectile extends Projectile {
         if (this.currentHP <= 0) {
             this.isDead = true;
         }
+        // The size of some projectiles depends on HP (e.g. the Player's Sun shrinks)
+        refreshHitbox();
+    }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeBoolean(isPlayerProjectile);
+        out.writeInt(maxHP);
+        out.writeInt(currentHP);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        isPlayerProjectile = in.readBoolean();
+        maxHP = in.readInt();
+        currentHP = in.readInt();
     }
 }
\ No newline at end of file
@@ -3,6 +3,10 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.RectangularShape;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Boulder Class
@@ -20,6 +24,7 @@ public class Boulder extends Projectile {
     private double preciseY; // Double for smooth gravity calculation
     private double velY;     // Vertical velocity
     private double gravity = GameConstants.BOULDER_GRAVITY; // Acceleration per frame
+    private Cyclops owner;   // The Cyclops that threw it (boulders are recycled, see ProjectilePool)
 
     /**
      * Constructor for the Boulder.
@@ -42,6 +47,38 @@ public class Boulder extends Projectile {
         this.velY = GameConstants.BOULDER_INITIAL_SPEED;
     }
 
+    /**
+     * Empty Boulder, set up later with init() (used by the ProjectilePool).
+     */
+    Boulder() {
+        this(0, 0);
+    }
+
+    /**
+     * (Re)initializes the Boulder for a new throw.
+     * @param owner The Cyclops throwing it (can be null).
+     * @return This boulder (to chain with ProjectilePool.acquire()).
+     */
+    public Boulder init(int x, int y, Cyclops owner) {
+        respawn(x, y);
+        this.preciseY = y;
+        this.velY = GameConstants.BOULDER_INITIAL_SPEED;
+        this.owner = owner;
+        return this;
+    }
+
+    public Cyclops getOwner() {
+        return owner;
+    }
+
+    /**
+     * Forgets the Cyclops, so a dead one is not kept alive by a Boulder waiting in the pool.
+     */
+    @Override
+    protected void onRelease() {
+        owner = null;
+    }
+
     /**
      * Updates the boulder's position applying gravity logic.
      */
@@ -59,22 +96,40 @@ public class Boulder extends Projectile {
     }
 
     @Override
-    public void draw(Graphics g) {
-        if (image != null) {
-            g.drawImage(image, x, y, width, height, null);
-        } else {
-            // Fallback: Gray Circle
-            g.setColor(Color.GRAY);
-            g.fillOval(x, y, width, height);
-        }
+    public Color getFallbackColor() {
+        return Color.GRAY;
     }
 
     /**
-     * Override getShape to provide a Circular Hitbox.
+     * Override createHitbox to provide a Circular Hitbox.
      * This makes collision detection more accurate for a round object.
+     * Used when the sprite has no collision mask.
+     */
+    @Override
+    protected RectangularShape createHitbox() {
+        return new Ellipse2D.Float();
+    }
+
+    @Override
+    public HitboxType getHitboxType() {
+        return HitboxType.ELLIPSE;
+    }
+
+    /**
+     * The owner is not written here: the Keyframe stores it as a reference to the Cyclops
+     * and passes it to init() when the Boulder is restored.
      */
     @Override
-    public Shape getShape() {
-        return new Ellipse2D.Float(x, y, width, height);
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeDouble(preciseY);
+        out.writeDouble(velY);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        preciseY = in.readDouble();
+        velY = in.readDouble();
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Broadphase (Abstract)
+ *
+ * Base class for the algorithms that quickly find which objects are close enough to collide,
+ * before the GameModel runs the precise (and more expensive) intersection tests.
+ *
+ * Usage, once per frame:
+ * 1. rebuild(objects) after all objects moved (e.g. all the Minions).
+ * 2. query(obj) for each object of the other side (e.g. the Player's Arrows),
+ *    then read the results with getCandidates().
+ *
+ * Implementations:
+ * - SPATIAL_HASH: Uniform grid over the play field (SpatialHashGrid).
+ * - SORT_AND_SWEEP: Objects kept sorted on the X axis across frames (SortAndSweep).
+ */
+public abstract class Broadphase {
+
+    /**
+     * Available implementations (selectable in the GameModel, e.g. for benchmarks).
+     */
+    public enum Type {
+        SPATIAL_HASH,
+        SORT_AND_SWEEP
+    }
+
+    protected int[] candidates = new int[64]; // Indices found by the last query (in spawn order)
+    private long[] spawnKeys = new long[64];  // Spawn order of the objects of the last rebuild (see sortCandidates)
+
+    /**
+     * Factory method.
+     * @param type The algorithm to use.
+     * @return A new, empty broadphase.
+     */
+    public static Broadphase create(Type type) {
+        switch (type) {
+            case SORT_AND_SWEEP:
+                return new SortAndSweep();
+            case SPATIAL_HASH:
+            default:
+                return new SpatialHashGrid(GameConstants.COLLISION_CELL_SIZE);
+        }
+    }
+
+    /**
+     * Registers all the given objects using their current (swept) hitbox bounds.
+     * The position of an object in the list is the index returned by the queries.
+     * Implementations must call loadSpawnKeys(objects).
+     * @param objects The objects to index (a GameModel bucket: the Minions or the enemy Projectiles).
+     */
+    public abstract void rebuild(List<? extends GameObject> objects);
+
+    /**
+     * Finds the registered objects that may collide with the given object.
+     * Results (indices in the list passed to rebuild) are available through getCandidates().
+     * @param obj Any object, usually one that is NOT registered (e.g. a Player's Arrow).
+     * @return The number of candidates found.
+     */
+    public abstract int query(GameObject obj);
+
+    /**
+     * Returns the buffer filled by the last query.
+     * Only the first N values (N = value returned by query) are valid.
+     */
+    public int[] getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Appends a candidate to the result buffer (growing it if needed).
+     * @return The new number of candidates.
+     */
+    protected int addCandidate(int count, int index) {
+        if (count == candidates.length) {
+            candidates = Arrays.copyOf(candidates, count * 2);
+        }
+        candidates[count] = index;
+        return count + 1;
+    }
+
+    /**
+     * Remembers the spawn order of the objects being registered (used by sortCandidates).
+     */
+    protected void loadSpawnKeys(List<? extends GameObject> objects) {
+        int count = objects.size();
+        if (count > spawnKeys.length) {
+            spawnKeys = new long[Math.max(count, spawnKeys.length * 2)];
+        }
+        for (int i = 0; i < count; i++) {
+            spawnKeys[i] = objects.get(i).renderKey;
+        }
+    }
+
+    /**
+     * Sorts the results in spawn order (the render key of each object, see EntityBucket).
+     * The bucket slots are not used: swap-remove shuffles them, so the order of the slots
+     * depends on which objects were removed before.
+     * Insertion Sort: a query usually finds a handful of candidates.
+     */
+    protected void sortCandidates(int count) {
+        for (int i = 1; i < count; i++) {
+            int index = candidates[i];
+            long key = spawnKeys[index];
+            int j = i - 1;
+            while (j >= 0 && spawnKeys[candidates[j]] > key) {
+                candidates[j + 1] = candidates[j];
+                j--;
+            }
+            candidates[j + 1] = index;
+        }
+    }
+}
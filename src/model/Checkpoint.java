@@ -0,0 +1,72 @@
+package model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Checkpoint Class
+ *
+ * The progress kept when the game is closed: the last checkpoint reached (see GameModel.applyLevelEffects())
+ * and the upgrades that GameModel.resetToLevel() does not rebuild from the constants.
+ * Immutable, written and read by CheckpointStore.
+ *
+ * Record layout (big-endian, fixed SIZE):
+ *   byte   checkpoint level index (in LEVEL_MILESTONES)
+ *   byte   stage (1, 2, 3)
+ *   int    arrow damage
+ *   int    arrow interval
+ *   int    arrow speed
+ */
+public final class Checkpoint {
+
+    public static final int SIZE = 14; // Bytes of a record
+
+    private final int levelIndex;
+    private final int stage;
+    private final int arrowDamage;
+    private final int arrowInterval;
+    private final int arrowSpeed;
+
+    Checkpoint(int levelIndex, int stage, int arrowDamage, int arrowInterval, int arrowSpeed) {
+        this.levelIndex = levelIndex;
+        this.stage = stage;
+        this.arrowDamage = arrowDamage;
+        this.arrowInterval = arrowInterval;
+        this.arrowSpeed = arrowSpeed;
+    }
+
+    void write(ByteBuffer buf) {
+        buf.put((byte) levelIndex);
+        buf.put((byte) stage);
+        buf.putInt(arrowDamage);
+        buf.putInt(arrowInterval);
+        buf.putInt(arrowSpeed);
+    }
+
+    /**
+     * @return The checkpoint read from the buffer, or null if its values cannot come from a game.
+     */
+    static Checkpoint read(ByteBuffer buf) {
+        int levelIndex = buf.get();
+        int stage = buf.get();
+        int arrowDamage = buf.getInt();
+        int arrowInterval = buf.getInt();
+        int arrowSpeed = buf.getInt();
+
+        if (levelIndex <= 0 || levelIndex >= GameConstants.LEVEL_MILESTONES.length) return null;
+        if (stage < 1 || arrowDamage <= 0 || arrowInterval <= 0 || arrowSpeed <= 0) return null;
+        return new Checkpoint(levelIndex, stage, arrowDamage, arrowInterval, arrowSpeed);
+    }
+
+    // --- GETTERS ---
+    public int getLevelIndex() { return levelIndex; }
+    public int getStage() { return stage; }
+    public int getArrowDamage() { return arrowDamage; }
+    public int getArrowInterval() { return arrowInterval; }
+    public int getArrowSpeed() { return arrowSpeed; }
+
+    @Override
+    public String toString() {
+        return "Checkpoint[level=" + levelIndex + ", stage=" + stage + ", damage=" + arrowDamage
+                + ", interval=" + arrowInterval + ", speed=" + arrowSpeed + "]";
+    }
+}
@@ -0,0 +1,127 @@
+package model;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * CheckpointStore Class
+ *
+ * Keeps the last Checkpoint on disk, so "Continue" still works after the game was closed.
+ *
+ * File layout (big-endian, FILE_SIZE bytes):
+ *   int    MAGIC ("GLCP")
+ *   short  VERSION
+ *   bytes  Checkpoint record (Checkpoint.SIZE)
+ *   int    CRC32 of everything before it
+ *
+ * - Compact and explicit: a fixed-size record read and written field by field
+ *   (no Java serialization, no reflection), so loading it is a single small read.
+ * - Atomic: the record is written to a temporary file next to the target, forced to disk,
+ *   then renamed over the previous one. A crash leaves either the old or the new checkpoint,
+ *   never a torn file (the CRC also rejects a damaged one).
+ *
+ * Not thread-safe: saved from the simulation thread only (see GameModel.setCheckpointStore()).
+ */
+public class CheckpointStore {
+
+    public static final int MAGIC = 0x474C4350; // "GLCP"
+    public static final short VERSION = 1;
+    private static final int HEADER_SIZE = 6;   // Magic + version
+    private static final int FILE_SIZE = HEADER_SIZE + Checkpoint.SIZE + 4;
+
+    private final Path file;
+    private final Path tempFile;
+    private final ByteBuffer buffer = ByteBuffer.allocate(FILE_SIZE); // Reused by every save / load
+
+    public CheckpointStore(Path file) {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * @return The default location: a file in the user's home directory.
+     */
+    public static Path defaultFile() {
+        return Paths.get(System.getProperty("user.home"), ".shooting-game", "checkpoint.bin");
+    }
+
+    /**
+     * Reads the saved checkpoint.
+     * @return The checkpoint, or null if none was saved yet.
+     * @throws IOException If the file cannot be read, or is not a valid checkpoint.
+     */
+    public Checkpoint load() throws IOException {
+        buffer.clear();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != FILE_SIZE) throw new IOException("Not a checkpoint file (size " + channel.size() + ")");
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) throw new EOFException("Truncated checkpoint file");
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        buffer.flip();
+
+        // 1. Header
+        if (buffer.getInt() != MAGIC) throw new IOException("Not a checkpoint file");
+        short version = buffer.getShort();
+        if (version != VERSION) throw new IOException("Unsupported checkpoint version: " + version);
+
+        // 2. Checksum
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, FILE_SIZE - 4);
+        if (buffer.getInt(FILE_SIZE - 4) != (int) crc.getValue()) throw new IOException("Damaged checkpoint file");
+
+        // 3. Record
+        Checkpoint checkpoint = Checkpoint.read(buffer);
+        if (checkpoint == null) throw new IOException("Invalid checkpoint values");
+        return checkpoint;
+    }
+
+    /**
+     * Replaces the saved checkpoint (atomically, see the class comment).
+     */
+    public void save(Checkpoint checkpoint) throws IOException {
+        // 1. Encode
+        buffer.clear();
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        checkpoint.write(buffer);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        // 2. Write the temporary file and force it to disk (before the rename makes it visible)
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        // 3. Swap it in
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING); // File systems without atomic rename
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
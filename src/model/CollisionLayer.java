@@ -0,0 +1,55 @@
+package model;
+
+/**
+ * CollisionLayer Enum
+ *
+ * Groups game objects by the role they have in a collision.
+ * A static interaction matrix tells which pairs of layers can produce an effect in a collision.
+ * The GameModel stores its entities in buckets that follow these layers, and checkCollisions
+ * asks the matrix once per pass which bucket pairs of the Player's side vs the enemy side to test.
+ *
+ * The matrix is derived from the same rules used by handleCollision:
+ * - Projectile vs Projectile: only opposite Alignments destroy each other.
+ * - Projectile vs Body: a projectile only hurts the opposite team.
+ * - Body vs Body: only the Player touching an enemy matters.
+ * In short: two layers interact only if they belong to different teams.
+ * The Power Level only decides which projectile survives a clash, it never cancels one,
+ * so BOSS_PROJECTILE has the same row as ENEMY_PROJECTILE for now.
+ */
+public enum CollisionLayer {
+    PLAYER_BODY(Alignment.PLAYER),       // The Player
+    PLAYER_PROJECTILE(Alignment.PLAYER), // Arrows and the Player's abilities (Sun, Lighting)
+    ENEMY_BODY(Alignment.ENEMY),         // Minions and Bosses
+    ENEMY_PROJECTILE(Alignment.ENEMY),   // Light/Heavy enemy projectiles (Feather, Boulder)
+    BOSS_PROJECTILE(Alignment.ENEMY);    // Ultimate enemy projectiles (Power Level 3: Sun, Lighting)
+
+    private static final boolean[][] INTERACTIONS;
+
+    static {
+        CollisionLayer[] layers = values();
+        INTERACTIONS = new boolean[layers.length][layers.length];
+
+        for (CollisionLayer a : layers) {
+            for (CollisionLayer b : layers) {
+                INTERACTIONS[a.ordinal()][b.ordinal()] = a.alignment != b.alignment;
+            }
+        }
+    }
+
+    private final Alignment alignment; // Team of the objects in this layer
+
+    CollisionLayer(Alignment alignment) {
+        this.alignment = alignment;
+    }
+
+    /**
+     * @return true if a collision between the two layers can have any effect.
+     */
+    public static boolean canInteract(CollisionLayer a, CollisionLayer b) {
+        return INTERACTIONS[a.ordinal()][b.ordinal()];
+    }
+
+    public Alignment getAlignment() {
+        return alignment;
+    }
+}
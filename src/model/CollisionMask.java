@@ -0,0 +1,158 @@
+package model;
+
+/**
+ * CollisionMask Class
+ *
+ * A 1-bit "pixel-perfect" hitbox built from the alpha channel of a sprite.
+ * Every row of the sprite is packed in 64-bit words (1 = solid pixel),
+ * so two masks can be tested against each other with a few bitwise AND per row.
+ *
+ * Masks are built once at load time by the ResourceManager, already scaled to the
+ * size the sprite is drawn at (see GameConstants), so mask pixel (0,0) is the top-left
+ * corner of the object on screen.
+ */
+public class CollisionMask {
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits; // Row-major: row r starts at r * wordsPerRow
+
+    /**
+     * Creates an empty mask (no solid pixels).
+     * @param width Width in pixels (same as the on-screen width of the sprite).
+     * @param height Height in pixels (same as the on-screen height of the sprite).
+     */
+    public CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Marks a pixel as solid. Only used while building the mask.
+     */
+    public void setSolid(int x, int y) {
+        bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+    }
+
+    public boolean isSolid(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    /**
+     * Mask vs Mask.
+     * @param other The other mask.
+     * @param dx X position of the other mask relative to this one.
+     * @param dy Y position of the other mask relative to this one.
+     * @return true if at least one solid pixel is shared.
+     */
+    public boolean overlaps(CollisionMask other, int dx, int dy) {
+        // Overlapping rectangle in local coordinates
+        int fromX = Math.max(0, dx);
+        int toX = Math.min(width, dx + other.width);
+        int fromY = Math.max(0, dy);
+        int toY = Math.min(height, dy + other.height);
+        if (fromX >= toX || fromY >= toY) return false;
+
+        for (int row = fromY; row < toY; row++) {
+            int base = row * wordsPerRow;
+            for (int word = fromX >>> 6; word <= (toX - 1) >>> 6; word++) {
+                int column = word << 6;
+                long shared = bits[base + word] & other.getBits64(row - dy, column - dx);
+                if ((shared & rangeMask(column, fromX, toX)) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mask vs analytic hitbox (RECTANGLE or ELLIPSE).
+     * A mask pixel hits the shape if its center lies inside the shape.
+     * @param type Shape type.
+     * @param x X of the shape bounds relative to this mask.
+     * @param y Y of the shape bounds relative to this mask.
+     * @param w Width of the shape bounds.
+     * @param h Height of the shape bounds.
+     * @return true if at least one solid pixel is inside the shape.
+     */
+    public boolean overlapsShape(HitboxType type, double x, double y, double w, double h) {
+        int fromY = Math.max(0, (int) Math.floor(y));
+        int toY = Math.min(height, (int) Math.ceil(y + h));
+
+        double radiusX = w / 2.0;
+        double radiusY = h / 2.0;
+        double centerX = x + radiusX;
+        double centerY = y + radiusY;
+
+        for (int row = fromY; row < toY; row++) {
+            double rowCenter = row + 0.5;
+            if (rowCenter < y || rowCenter >= y + h) continue;
+
+            // Horizontal span of the shape on this row
+            double spanFrom = x;
+            double spanTo = x + w;
+            if (type == HitboxType.ELLIPSE) {
+                double ny = (rowCenter - centerY) / radiusY;
+                double halfWidth = radiusX * Math.sqrt(Math.max(0, 1 - ny * ny));
+                spanFrom = centerX - halfWidth;
+                spanTo = centerX + halfWidth;
+            }
+
+            // Pixels whose center is inside the span
+            int fromX = Math.max(0, (int) Math.ceil(spanFrom - 0.5));
+            int toX = Math.min(width, (int) Math.ceil(spanTo - 0.5));
+            if (fromX < toX && anySolid(row, fromX, toX)) return true;
+        }
+        return false;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // --- BIT HELPERS ---
+
+    /**
+     * @return true if any pixel in [fromX, toX) of the row is solid.
+     */
+    private boolean anySolid(int row, int fromX, int toX) {
+        int base = row * wordsPerRow;
+        for (int word = fromX >>> 6; word <= (toX - 1) >>> 6; word++) {
+            if ((bits[base + word] & rangeMask(word << 6, fromX, toX)) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads 64 consecutive pixels of a row starting at any column (also negative or out of range).
+     * Pixels outside the mask are returned as empty.
+     */
+    private long getBits64(int row, int column) {
+        if (row < 0 || row >= height || column >= width || column <= -64) return 0;
+
+        int word = Math.floorDiv(column, 64);
+        int shift = Math.floorMod(column, 64);
+        int base = row * wordsPerRow;
+
+        long low = (word >= 0) ? bits[base + word] >>> shift : 0;
+        long high = (shift != 0 && word + 1 < wordsPerRow) ? bits[base + word + 1] << (64 - shift) : 0;
+        return low | high;
+    }
+
+    /**
+     * Bits of the word starting at 'column' that fall inside [fromX, toX).
+     */
+    private static long rangeMask(int column, int fromX, int toX) {
+        long mask = -1L;
+        if (fromX > column) mask &= -1L << (fromX - column);
+        if (toX < column + 64) mask &= -1L >>> (64 - (toX - column));
+        return mask;
+    }
+}
@@ -0,0 +1,44 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * CombinedView Class
+ *
+ * Read-only List that shows several entity buckets one after the other, without copying them.
+ * Used by the GameModel to expose "all the objects" (e.g. for rendering) while storing them
+ * in typed buckets. The order of the buckets is the drawing order.
+ */
+class CombinedView extends AbstractList<GameObject> implements RandomAccess {
+
+    private final List<? extends List<? extends GameObject>> parts;
+
+    /**
+     * @param parts The buckets, in drawing order (e.g. List.of(a, b)).
+     */
+    CombinedView(List<? extends List<? extends GameObject>> parts) {
+        this.parts = parts;
+    }
+
+    @Override
+    public GameObject get(int index) {
+        int local = index;
+        for (List<? extends GameObject> part : parts) {
+            int size = part.size();
+            if (local < size) return part.get(local);
+            local -= size;
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (List<? extends GameObject> part : parts) {
+            size += part.size();
+        }
+        return size;
+    }
+}
@@ -3,6 +3,9 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Cyclops Class
@@ -94,7 +97,8 @@ public class Cyclops extends Minion {
 
         // --- Attack Logic ---
         // Only attack if we don't currently have an active boulder (Limit: 1 at a time)
-        if (myBoulder == null || myBoulder.isDead()) {
+        // (a recycled boulder may already belong to another Cyclops)
+        if (myBoulder == null || myBoulder.isDead() || myBoulder.getOwner() != this) {
             if(attackTimer > 0){
                 attackTimer--;
             }
@@ -109,30 +113,56 @@ public class Cyclops extends Minion {
     }
 
     @Override
-    public void draw(Graphics g) {
-        BufferedImage imgToDraw;
-
+    public BufferedImage getSprite() {
         // Determine which hit-flash image to use based on current animation frame
-        if (image == ResourceManager.cyclopsImg){
-            imgToDraw = (flashTimer > 0) ? ResourceManager.cyclopsHitImg : image;
-        } else {
-            imgToDraw = (flashTimer > 0) ? ResourceManager.cyclopsHitImg2 : image;
-        }
+        if (flashTimer <= 0) return image;
+        return (image == ResourceManager.cyclopsImg) ? ResourceManager.cyclopsHitImg : ResourceManager.cyclopsHitImg2;
+    }
 
-        if (imgToDraw != null) {
-            g.drawImage(imgToDraw, x, y, width, height, null);
-        } else {
-            // Fallback
-            g.setColor(Color.RED);
-            g.fillRect(x, y, width, height);
-        }
+    @Override
+    public Color getFallbackColor() {
+        return Color.RED;
+    }
+
+    /**
+     * Sets the boulder currently thrown by this Cyclops (used when restoring a Keyframe).
+     */
+    void setBoulder(Boulder boulder) {
+        this.myBoulder = boulder;
+    }
+
+    /**
+     * The boulder is not written here: the Keyframe restores it with the Boulder (see setBoulder).
+     */
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeDouble(preciseY);
+        out.writeDouble(velY);
+        out.writeInt(movementTimer);
+        out.writeInt(attackTimer);
+        out.writeBoolean(reachedMidScreen);
+        out.writeBoolean(wingsClosed);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        preciseY = in.readDouble();
+        velY = in.readDouble();
+        movementTimer = in.readInt();
+        attackTimer = in.readInt();
+        reachedMidScreen = in.readBoolean();
+        wingsClosed = in.readBoolean();
+        myBoulder = null;
+        image = wingsClosed ? ResourceManager.cyclopsImg2 : ResourceManager.cyclopsImg;
     }
 
     /**
      * Helper method to spawn a boulder directly below the Cyclops.
      */
     private void throwBoulder(){
-        Boulder b = new Boulder (x + (width - GameConstants.BOULDER_WIDTH)/2, y + height);
+        Boulder b = model.acquireBoulder(x + (width - GameConstants.BOULDER_WIDTH)/2, y + height, this);
         this.myBoulder = b; // Track this boulder
         model.spawnEnemyProjectile(b);
     }
@@ -1,6 +1,9 @@
 package model;
 
-import java.util.Random;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
 
 /**
  * EnemySpawner Class
@@ -11,25 +14,41 @@ import java.util.Random;
  */
 public class EnemySpawner {
 
+    // Enemies that can be spawned (the index is written in the Keyframes)
+    private static final List<Class<? extends Minion>> TYPES = List.of(Harpy.class, Cyclops.class, Minotaur.class);
+
     private Class<? extends Minion> enemyType; // The class of the enemy to spawn (e.g., Harpy.class)
     private int baseInterval;   // Average frames between spawns
     private int variance;       // Random variation (+/- frames)
     private int timer;          // Current countdown timer
-    private Random rand = new Random();
+    private final GameRandom random; // Own stream, split from the GameModel's spawn stream
 
     /**
      * Constructor.
      * @param enemyType The class of the enemy to spawn.
      * @param baseInterval Base time between spawns.
      * @param variance Random time added/subtracted from base.
+     * @param random Generator used for the variance.
      */
-    public EnemySpawner(Class<? extends Minion> enemyType, int baseInterval, int variance) {
+    public EnemySpawner(Class<? extends Minion> enemyType, int baseInterval, int variance, GameRandom random) {
         this.enemyType = enemyType;
+        this.random = random;
         this.baseInterval = baseInterval;
         this.variance = variance;
         resetTimer(); // Start the timer immediately
     }
 
+    /**
+     * Restores a spawner exactly as it was saved (no new random timer).
+     */
+    private EnemySpawner(Class<? extends Minion> enemyType, int baseInterval, int variance, int timer, GameRandom random) {
+        this.enemyType = enemyType;
+        this.random = random;
+        this.baseInterval = baseInterval;
+        this.variance = variance;
+        this.timer = timer;
+    }
+
     /**
      * Decrements the timer.
      * @return true if the timer reached 0 (time to spawn), false otherwise.
@@ -48,7 +67,7 @@ public class EnemySpawner {
      */
     private void resetTimer() {
         // Calculate next spawn time: base +/- random variance
-        int var = (variance > 0) ? rand.nextInt(variance * 2 + 1) - variance : 0;
+        int var = (variance > 0) ? random.nextInt(variance * 2 + 1) - variance : 0;
         this.timer = baseInterval + var;
 
         // Safety: Ensure timer is never too low (e.g., prevent instant spamming)
@@ -70,4 +89,20 @@ public class EnemySpawner {
     public Class<? extends Minion> getEnemyType() {
         return enemyType;
     }
+
+    // --- KEYFRAMES (see Keyframe) ---
+
+    void writeState(DataOutput out) throws IOException {
+        out.writeByte(TYPES.indexOf(enemyType));
+        out.writeInt(baseInterval);
+        out.writeInt(variance);
+        out.writeInt(timer);
+        random.writeState(out);
+    }
+
+    static EnemySpawner readState(DataInput in) throws IOException {
+        int type = in.readUnsignedByte();
+        if (type >= TYPES.size()) throw new IOException("Unknown enemy type: " + type);
+        return new EnemySpawner(TYPES.get(type), in.readInt(), in.readInt(), in.readInt(), GameRandom.read(in));
+    }
 }
\ No newline at end of file
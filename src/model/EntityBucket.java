@@ -0,0 +1,270 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * EntityBucket Class
+ *
+ * A list that only holds one kind of entity (e.g. only Minions, only enemy Projectiles).
+ * The GameModel keeps one bucket per kind, so the update and collision loops know the
+ * type of every element without 'instanceof' checks.
+ *
+ * Key Features:
+ * - Dense storage: the objects are packed at the start of a plain array. A dead object is removed
+ *   in O(1) by moving the last object into its slot ("swap-remove"), nothing is shifted or allocated.
+ * - Stable drawing order: swap-remove shuffles the dense array, so every object also gets a
+ *   render key (its spawn order, model-wide: see SpawnOrder). inRenderOrder() returns the objects
+ *   sorted by that key, and it is only recomputed when something changed and somebody reads it.
+ * - Objects spawned during an update are queued with addLater() in the SpawnOrder shared by
+ *   all the buckets, and become visible when the GameModel flushes it.
+ * - It is a read-only List for everybody else: add() is the only mutator of the List interface.
+ */
+class EntityBucket<T extends GameObject> extends AbstractList<T> implements RandomAccess {
+
+    // --- DENSE STORAGE (simulation order) ---
+    private GameObject[] items = new GameObject[16];
+    private int size;
+    private final SpawnOrder spawnOrder; // Gives the render keys, queues the objects spawned during an update
+
+    // --- RENDER ORDER (rebuilt lazily from the previous one) ---
+    private GameObject[] renderItems = new GameObject[16];
+    private long[] renderKeys = new long[16];  // Key of each entry when it was listed
+    private int renderSize;
+    private long renderedUpTo;                 // Objects with a smaller key are already listed
+    private boolean renderDirty;
+    private final List<T> renderView = new RenderView();
+
+    /**
+     * @param spawnOrder The spawn order shared by all the buckets of the GameModel.
+     */
+    EntityBucket(SpawnOrder spawnOrder) {
+        this.spawnOrder = spawnOrder;
+    }
+
+    /**
+     * Adds an object immediately (only safe when the bucket is not being iterated).
+     */
+    @Override
+    public boolean add(T obj) {
+        insert(obj, spawnOrder.nextKey());
+        return true;
+    }
+
+    /**
+     * Queues an object, it will be added by the next SpawnOrder.flush().
+     */
+    public void addLater(T obj) {
+        spawnOrder.queue(this, obj);
+    }
+
+    /**
+     * Called by SpawnOrder.flush() (only with objects queued by addLater(), so of type T).
+     */
+    @SuppressWarnings("unchecked")
+    void addQueued(GameObject obj) {
+        add((T) obj);
+    }
+
+    /**
+     * Removes the objects flagged as dead (swap-remove: O(1) each).
+     */
+    public void removeDead() {
+        for (int i = 0; i < size; ) {
+            if (items[i].isDead()) {
+                removeAt(i); // The last object moved here: check slot i again
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Same as removeDead(), but hands every removed object to the callback (e.g. to recycle it).
+     */
+    public void removeDead(Consumer<? super T> onRemoved) {
+        for (int i = 0; i < size; ) {
+            T obj = get(i);
+            if (obj.isDead()) {
+                removeAt(i);
+                onRemoved.accept(obj);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Removes every object, including the queued ones.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            items[i].bucketSlot = -1;
+            items[i] = null;
+        }
+        size = 0;
+        spawnOrder.removeQueued(this);
+
+        Arrays.fill(renderItems, 0, renderSize, null);
+        renderSize = 0;
+        renderedUpTo = spawnOrder.peekNextKey();
+        renderDirty = false;
+    }
+
+    /**
+     * Same as clear(), but hands every removed object to the callback (e.g. to recycle it).
+     */
+    @SuppressWarnings("unchecked")
+    public void clear(Consumer<? super T> onRemoved) {
+        for (int i = 0; i < size; i++) {
+            onRemoved.accept(get(i));
+        }
+        for (int i = 0; i < spawnOrder.getQueuedCount(); i++) {
+            if (spawnOrder.getQueuedBucket(i) == this) {
+                onRemoved.accept((T) spawnOrder.getQueuedObject(i));
+            }
+        }
+        clear();
+    }
+
+    /**
+     * Returns the object in the given slot of the dense array (simulation order).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return (T) items[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Read-only view of the same objects sorted by spawn order (used for drawing).
+     */
+    public List<T> inRenderOrder() {
+        return renderView;
+    }
+
+    // --- KEYFRAMES (see GameModel.writeState / readState) ---
+
+    /**
+     * Adds a restored object with the render key it had when it was saved (the bucket was cleared before).
+     */
+    void restore(T obj, long renderKey) {
+        insert(obj, renderKey);
+    }
+
+    /**
+     * Ends a restore: the render order is rebuilt from scratch.
+     */
+    void restoreRenderOrder() {
+        renderedUpTo = 0;
+        renderDirty = true;
+    }
+
+    // --- HELPERS ---
+
+    private void insert(T obj, long renderKey) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        obj.bucketSlot = size;
+        obj.renderKey = renderKey;
+        items[size++] = obj;
+        renderDirty = true;
+    }
+
+    private void removeAt(int index) {
+        items[index].bucketSlot = -1;
+
+        int last = --size;
+        if (index != last) {
+            items[index] = items[last];
+            items[index].bucketSlot = index;
+        }
+        items[last] = null;
+        renderDirty = true;
+    }
+
+    /**
+     * @return true if the object is still stored in this bucket with the given key.
+     */
+    private boolean contains(GameObject obj, long key) {
+        int slot = obj.bucketSlot;
+        return slot >= 0 && slot < size && items[slot] == obj && obj.renderKey == key;
+    }
+
+    /**
+     * Brings the render order up to date:
+     * 1. Drops the entries that left the bucket (the others keep their relative order).
+     * 2. Appends the objects added since the last time, sorted by key (usually just a few).
+     */
+    private void updateRenderOrder() {
+        if (!renderDirty) return;
+        renderDirty = false;
+
+        if (renderItems.length < size) {
+            int newSize = Math.max(size, renderItems.length * 2);
+            renderItems = Arrays.copyOf(renderItems, newSize);
+            renderKeys = Arrays.copyOf(renderKeys, newSize);
+        }
+
+        // 1. Keep the entries still in the bucket
+        int kept = 0;
+        for (int r = 0; r < renderSize; r++) {
+            GameObject obj = renderItems[r];
+            if (contains(obj, renderKeys[r])) {
+                renderItems[kept] = obj;
+                renderKeys[kept] = renderKeys[r];
+                kept++;
+            }
+        }
+        Arrays.fill(renderItems, kept, renderSize, null);
+
+        // 2. Append the new objects (Insertion Sort on the key)
+        int oldEnd = kept;
+        for (int i = 0; i < size; i++) {
+            GameObject obj = items[i];
+            if (obj.renderKey < renderedUpTo) continue;
+
+            int pos = kept++;
+            while (pos > oldEnd && renderKeys[pos - 1] > obj.renderKey) {
+                renderItems[pos] = renderItems[pos - 1];
+                renderKeys[pos] = renderKeys[pos - 1];
+                pos--;
+            }
+            renderItems[pos] = obj;
+            renderKeys[pos] = obj.renderKey;
+        }
+
+        renderSize = kept;
+        renderedUpTo = spawnOrder.peekNextKey();
+    }
+
+    /**
+     * The list returned by inRenderOrder().
+     */
+    private class RenderView extends AbstractList<T> implements RandomAccess {
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            updateRenderOrder();
+            if (index >= renderSize) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + renderSize);
+            return (T) renderItems[index];
+        }
+
+        @Override
+        public int size() {
+            updateRenderOrder();
+            return renderSize;
+        }
+    }
+}
@@ -30,6 +30,22 @@ public class Feather extends Projectile {
                 Alignment.ENEMY, 1, GameConstants.FEATHER_DAMAGE);
     }
 
+    /**
+     * Empty Feather, set up later with init() (used by the ProjectilePool).
+     */
+    Feather() {
+        this(0, 0);
+    }
+
+    /**
+     * (Re)initializes the Feather for a new throw.
+     * @return This feather (to chain with ProjectilePool.acquire()).
+     */
+    public Feather init(int x, int y) {
+        respawn(x, y);
+        return this;
+    }
+
     @Override
     public void move() {
         y += GameConstants.FEATHER_SPEED;
@@ -41,12 +57,7 @@ public class Feather extends Projectile {
     }
 
     @Override
-    public void draw(Graphics g) {
-        if (ResourceManager.featherImg != null) {
-            g.drawImage(image, x, y, width, height, null);
-        } else {
-            g.setColor(Color.MAGENTA);
-            g.fillRect(x, y, width, height);
-        }
+    public Color getFallbackColor() {
+        return Color.MAGENTA;
     }
 }
\ No newline at end of file
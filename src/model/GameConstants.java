@@ -20,10 +20,25 @@ public final class GameConstants {
     public static final int FIELD_HEIGHT = 800;
     public static final int BOTTOM_HUD_HEIGHT = 100;
     public static final int WINDOW_HEIGHT = HUD_HEIGHT + FIELD_HEIGHT + BOTTOM_HUD_HEIGHT;
+    public static final int HUD_HEART_SIZE = 32; // 32; Life icons in the top HUD
+    public static final int HUD_SLOT_SIZE = 60; // 60; Ability slots in the bottom HUD
 
     // --- SYSTEM SETTINGS ---
-    public static final int FPS = 60; // 60; Target Frames Per Second
+    public static final int FPS = 60; // 60; Simulation steps per second (fixed timestep)
+    public static final int RENDER_FPS = 120; // 120; Max frames drawn per second (interpolated between steps)
+    public static final int MAX_CATCH_UP_STEPS = 5; // 5; Max steps run at once after a stall
+    public static final int REPLAY_KEYFRAME_INTERVAL = FPS * 10; // 10 seconds; Steps between two keyframes of a replay (seek granularity)
+    public static final int REWIND_INTERVAL = 6; // 6; Steps between two rewind snapshots (10 per second)
+    public static final int REWIND_SECONDS = 30; // 30; Seconds of play kept by the rewind buffer
     public static final double SCREEN_SPEED = 1.0; // Background scroll speed
+    public static final int COLLISION_CELL_SIZE = 100; // 100; Side of a cell in the collision grid (6x8 cells)
+
+    // --- PROJECTILE POOLS (max free projectiles kept for reuse, see ProjectilePool) ---
+    // Peaks: high-water marks of the pools over 60000-step runs that reach Zeus (level 12)
+    public static final int ARROW_POOL_CAP = 16;    // 16; peak 2 alive
+    public static final int FEATHER_POOL_CAP = 32;  // 32; peak 10 alive
+    public static final int BOULDER_POOL_CAP = 12;  // 12; peak 10 alive (one per Cyclops at a time)
+    public static final int LIGHTING_POOL_CAP = 48; // 48; peak 45 alive (Zeus's bursts: up to 43 at once)
 
     // --- PLAYER STATS ---
     public static final int PLAYER_WIDTH = 100; // 100
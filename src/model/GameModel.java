@@ -4,9 +4,12 @@ import view.ResourceManager;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.function.Consumer;
 import java.awt.geom.Area;
 
 /**
@@ -19,11 +22,37 @@ import java.awt.geom.Area;
 public class GameModel {
 
     // --- GAME OBJECTS MANAGEMENT ---
-    private ArrayList<GameObject> objects;        // List of all active game entities
-    private ArrayList<GameObject> newObjectsBuffer; // Buffer to add objects safely during iteration
+    // One bucket per kind of entity: loops know the type of their elements without 'instanceof'
+    private EntityBucket<Player> players;               // The Player (0 or 1 element)
+    private EntityBucket<Boss> bosses;
+    private EntityBucket<Minion> minions;
+    private EntityBucket<Projectile> enemyProjectiles;
+    private EntityBucket<Projectile> playerProjectiles; // Arrows and the Player's abilities
+    private List<GameObject> objects;                   // Read-only view of all the buckets (drawing order)
+    private SpawnOrder spawnOrder;                      // Spawn order across the buckets, spawn queue
     private Player player;
     private boolean isGameOver = false;
-    private Random rand = new Random();
+
+    // --- RANDOMNESS (one seed, one independent stream per subsystem, see GameRandom) ---
+    private final long seed;
+    private final GameRandom spawnRandom;      // Spawn positions and the EnemySpawners
+    private final GameRandom enemyRandom;      // Enemy behaviour (directions, fire timers, Zeus' abilities)
+    private final GameRandom projectileRandom; // Projectile trajectories (Sun)
+
+    // --- PROJECTILE POOLS (short-lived projectiles are recycled instead of re-allocated) ---
+    private ProjectilePool<Arrow> arrowPool;
+    private ProjectilePool<Feather> featherPool;
+    private ProjectilePool<Boulder> boulderPool;
+    private ProjectilePool<Lighting> lightingPool;
+    private final Consumer<Projectile> projectileRecycler = this::releaseProjectile; // Created once
+
+    // --- COLLISIONS ---
+    // Only the enemy side is indexed: the Player's side queries it (the only pairs that can interact)
+    private Broadphase minionBroadphase;
+    private Broadphase enemyProjectileBroadphase;
+    private GameObject firstHitTarget;   // Earliest target found for the current swept Arrow
+    private double firstHitTime;
+    private boolean firstHitIsProjectile;
 
     // --- GAME STATE & INPUT ---
     private GameState state;       // Current state (TITLE, PLAYING, etc.)
@@ -34,11 +63,14 @@ public class GameModel {
     private int arrowSpeed;
 
     // --- PROGRESSION SYSTEM ---
-    private static int score = 0;
+    private int score = 0;
     private int nextTargetScore;         // Score needed to reach the next event
     private int currentLevelIndex = 0;   // Current step in the LEVEL_MILESTONES array
     private int lastCheckpointIndex = 0; // Stores the index of the last major event (for Continue)
     private boolean isBossActive = false; // Flag to pause progression during boss fights
+    private boolean logging = true;       // Print the progression events (off for batch runs)
+    private CheckpointStore checkpointStore; // Saves every new checkpoint to disk (null = off)
+    private Checkpoint savedCheckpoint;      // Checkpoint of a previous session, "Continue" on the title screen (null = none)
 
     // --- PLAYER STATS ---
     private int lives;       // Current lives
@@ -60,10 +92,37 @@ public class GameModel {
     // --- ENEMY SPAWNING ---
     private List<EnemySpawner> activeSpawners; // List of active enemy generators
 
+    /**
+     * Creates a model with a random seed.
+     */
     public GameModel() {
-        objects = new ArrayList<>();
-        newObjectsBuffer = new ArrayList<>();
+        this(System.nanoTime());
+    }
+
+    /**
+     * Creates a model with a fixed seed: the same seed and the same inputs replay the same game.
+     */
+    public GameModel(long seed) {
+        this.seed = seed;
+        GameRandom root = new GameRandom(seed);
+        spawnRandom = root.split();
+        enemyRandom = root.split();
+        projectileRandom = root.split();
+
+        spawnOrder = new SpawnOrder();
+        players = new EntityBucket<>(spawnOrder);
+        bosses = new EntityBucket<>(spawnOrder);
+        minions = new EntityBucket<>(spawnOrder);
+        enemyProjectiles = new EntityBucket<>(spawnOrder);
+        playerProjectiles = new EntityBucket<>(spawnOrder);
+        objects = new CombinedView(List.of(players.inRenderOrder(), bosses.inRenderOrder(), minions.inRenderOrder(),
+                enemyProjectiles.inRenderOrder(), playerProjectiles.inRenderOrder()));
         activeSpawners = new ArrayList<>();
+        arrowPool = new ProjectilePool<>("Arrow", Arrow::new, GameConstants.ARROW_POOL_CAP);
+        featherPool = new ProjectilePool<>("Feather", Feather::new, GameConstants.FEATHER_POOL_CAP);
+        boulderPool = new ProjectilePool<>("Boulder", Boulder::new, GameConstants.BOULDER_POOL_CAP);
+        lightingPool = new ProjectilePool<>("Lighting", Lighting::new, GameConstants.LIGHTING_POOL_CAP);
+        setBroadphase(Broadphase.Type.SPATIAL_HASH);
         state = GameState.TITLE;
     }
 
@@ -112,7 +171,7 @@ public class GameModel {
      */
     public void continueGame() {
         // Do NOT reset lastCheckpointIndex. Use it to restore state.
-        System.out.println("Continuing from Checkpoint Index: " + lastCheckpointIndex);
+        if (logging) System.out.println("Continuing from Checkpoint Index: " + lastCheckpointIndex);
 
         // Restore the game to the saved level index
         resetToLevel(lastCheckpointIndex);
@@ -123,14 +182,39 @@ public class GameModel {
         }
     }
 
+    /**
+     * Starts from the checkpoint saved by a previous session (see setSavedCheckpoint()).
+     * Called when the player chooses "Continue" on the title screen: the game then goes on
+     * exactly like a "Continue" after a Game Over at that checkpoint.
+     */
+    public void continueSavedGame() {
+        if (savedCheckpoint == null) return;
+
+        // 1. Upgrades collected before the checkpoint (resetToLevel() does not rebuild them)
+        lastCheckpointIndex = savedCheckpoint.getLevelIndex();
+        currentStage = savedCheckpoint.getStage();
+        arrowDamage = savedCheckpoint.getArrowDamage();
+        arrowInterval = savedCheckpoint.getArrowInterval();
+        arrowSpeed = savedCheckpoint.getArrowSpeed();
+        arrowImg = stageSprite(ResourceManager.arrowImg, ResourceManager.arrowFireImg, ResourceManager.arrowLightingImg);
+
+        // 2. Background of the stage (the level effects only change it when a stage starts)
+        if (background == null) background = new Background();
+        background.setImage(stageSprite(ResourceManager.stage1Img, ResourceManager.stage2Img, ResourceManager.stage3Img));
+        background.setSpeed(currentStage >= 3 ? 0 : GameConstants.SCREEN_SPEED);
+
+        // 3. Same as a Continue after Game Over
+        continueGame();
+    }
+
     /**
      * Resets the game state to a specific level index.
      * Used for both initialization and checkpoints.
      * @param levelIndex The index in LEVEL_MILESTONES to load.
      */
     private void resetToLevel(int levelIndex) {
-        objects.clear();
-        newObjectsBuffer.clear();
+        players.clear();
+        clearEverything();
         activeSpawners.clear();
 
         // Reset Abilities Cooldowns
@@ -150,7 +234,7 @@ public class GameModel {
             // Stage 3
             player = new Player(ResourceManager.playerImg3);
         }
-        objects.add(player);
+        players.add(player);
         lives = GameConstants.PLAYER_MAX_LIVES;
         damageTimer = 0;
 
@@ -169,7 +253,7 @@ public class GameModel {
 
         // Set default spawner for the start of the game
         if (levelIndex == 0) {
-            activeSpawners.add(new EnemySpawner(Harpy.class, GameConstants.HARPY_SPAWN_INTERVAL, GameConstants.HARPY_SPAWN_VARIANCE));
+            activeSpawners.add(new EnemySpawner(Harpy.class, GameConstants.HARPY_SPAWN_INTERVAL, GameConstants.HARPY_SPAWN_VARIANCE, spawnRandom.split()));
         }
 
         // Restore Score (Set score to the previous milestone so we don't regress level)
@@ -203,7 +287,7 @@ public class GameModel {
 
             // Apply new level logic
             applyLevelEffects(currentLevelIndex);
-            System.out.println("Level Up! Current Index: " + currentLevelIndex);
+            if (logging) System.out.println("Level Up! Current Index: " + currentLevelIndex);
 
             // Set next target
             if (currentLevelIndex + 1 < GameConstants.LEVEL_MILESTONES.length) {
@@ -217,6 +301,8 @@ public class GameModel {
      * Handles difficulty spikes, boss spawns, and stage transitions.
      */
     private void applyLevelEffects(int levelIndex) {
+        int previousCheckpoint = lastCheckpointIndex;
+
         switch (levelIndex) {
             case 1: // Increase spawn rate
                 for (EnemySpawner s : activeSpawners) s.increaseDifficulty(0.8);
@@ -267,11 +353,11 @@ public class GameModel {
                     // Harpy Spawner
                     activeSpawners.add(new EnemySpawner(Harpy.class,
                             GameConstants.HARPY_SPAWN_INTERVAL,
-                            GameConstants.HARPY_SPAWN_VARIANCE));
+                            GameConstants.HARPY_SPAWN_VARIANCE, spawnRandom.split()));
                     // Cyclops Spawner
                     activeSpawners.add(new EnemySpawner(Cyclops.class,
                             GameConstants.CYCLOPS_SPAWN_INTERVAL,
-                            GameConstants.CYCLOPS_SPAWN_VARIANCE));
+                            GameConstants.CYCLOPS_SPAWN_VARIANCE, spawnRandom.split()));
                 }
                 break;
 
@@ -327,15 +413,15 @@ public class GameModel {
                     // Harpy Spawner
                     activeSpawners.add(new EnemySpawner(Harpy.class,
                             GameConstants.HARPY_SPAWN_INTERVAL,
-                            GameConstants.HARPY_SPAWN_VARIANCE));
+                            GameConstants.HARPY_SPAWN_VARIANCE, spawnRandom.split()));
                     // Cyclops Spawner
                     activeSpawners.add(new EnemySpawner(Cyclops.class,
                             GameConstants.CYCLOPS_SPAWN_INTERVAL,
-                            GameConstants.CYCLOPS_SPAWN_VARIANCE));
+                            GameConstants.CYCLOPS_SPAWN_VARIANCE, spawnRandom.split()));
                     // Minotaur Spawner
                     activeSpawners.add(new EnemySpawner(Minotaur.class,
                             GameConstants.MINOTAUR_SPAWN_INTERVAL,
-                            GameConstants.MINOTAUR_SPAWN_VARIANCE));
+                            GameConstants.MINOTAUR_SPAWN_VARIANCE, spawnRandom.split()));
                 }
                 break;
             case 9: // Increase spawn rate
@@ -355,6 +441,28 @@ public class GameModel {
                 healPlayer();
                 break;
         }
+
+        // Persist the new checkpoint, with the upgrades it just applied
+        if (lastCheckpointIndex != previousCheckpoint) {
+            saveCheckpoint();
+        }
+    }
+
+    /**
+     * Writes the current checkpoint to the CheckpointStore (if any).
+     * A failure is reported but never stops the game.
+     */
+    private void saveCheckpoint() {
+        if (checkpointStore == null) return;
+
+        savedCheckpoint = new Checkpoint(lastCheckpointIndex, currentStage, arrowDamage, arrowInterval, arrowSpeed);
+        try {
+            checkpointStore.save(savedCheckpoint);
+            if (logging) System.out.println("Checkpoint saved: " + savedCheckpoint);
+        } catch (IOException e) {
+            System.err.println("Error: Could not save the checkpoint to " + checkpointStore.getFile());
+            e.printStackTrace();
+        }
     }
 
     public void showMessage(String text) {
@@ -363,10 +471,46 @@ public class GameModel {
         this.state = GameState.MESSAGE;
     }
 
-    public static void addScore(int points){
+    public void addScore(int points){
         score += points;
     }
 
+    /**
+     * Switches the collision broadphase algorithm (the result of the collisions is the same).
+     * Useful to benchmark the implementations on the same game.
+     */
+    public void setBroadphase(Broadphase.Type type) {
+        this.minionBroadphase = Broadphase.create(type);
+        this.enemyProjectileBroadphase = Broadphase.create(type);
+    }
+
+    /**
+     * Turns the progression messages on the console on or off
+     * (many models printing in parallel would only fight over System.out).
+     */
+    public void setLogging(boolean logging) {
+        this.logging = logging;
+    }
+
+    /**
+     * Saves every new checkpoint to this store (null = off, e.g. for batch runs and replays:
+     * a replay must not depend on the progress of another session).
+     */
+    public void setCheckpointStore(CheckpointStore store) {
+        this.checkpointStore = store;
+    }
+
+    /**
+     * Sets the checkpoint "Continue" starts from on the title screen (usually CheckpointStore.load()).
+     */
+    public void setSavedCheckpoint(Checkpoint checkpoint) {
+        this.savedCheckpoint = checkpoint;
+    }
+
+    public Checkpoint getSavedCheckpoint() {
+        return savedCheckpoint;
+    }
+
     public void setFiring(boolean firing) {
         this.isFiring = firing;
     }
@@ -381,7 +525,7 @@ public class GameModel {
 
     /**
      * Main Game Loop Update.
-     * Called every frame by the GamePanel timer.
+     * Called once per fixed step by the simulation thread (see GameLoop).
      */
     public void update() {
         if (state != GameState.PLAYING) return;
@@ -424,20 +568,61 @@ public class GameModel {
             }
         }
 
-        // 7. Add new objects from buffer
-        objects.addAll(newObjectsBuffer);
-        newObjectsBuffer.clear();
+        // 7. Add the objects spawned since the last update (in the order they were spawned)
+        spawnOrder.flush();
 
-        // 8. Move all objects
-        for (GameObject obj : objects) {
-            obj.move();
-        }
+        // 8. Move all objects (and update their hitboxes once)
+        moveAll(players);
+        moveAll(bosses);
+        moveAll(minions);
+        moveAll(enemyProjectiles);
+        moveAll(playerProjectiles);
+
+        // 9. Refresh the broadphases with the new positions
+        minionBroadphase.rebuild(minions);
+        enemyProjectileBroadphase.rebuild(enemyProjectiles);
 
-        // 9. Check Collisions
+        // 10. Check Collisions
         checkCollisions();
 
-        // 10. Remove dead objects
-        objects.removeIf(obj -> obj.isDead());
+        // 11. Remove dead objects (swap-remove; projectiles go back to their pool)
+        players.removeDead();
+        bosses.removeDead();
+        minions.removeDead();
+        enemyProjectiles.removeDead(projectileRecycler);
+        playerProjectiles.removeDead(projectileRecycler);
+    }
+
+    /**
+     * Copies what the View needs to draw the current state into a snapshot
+     * (called by the simulation thread after every step, see RenderSnapshot).
+     * @param target A snapshot not being read by the renderer.
+     * @param stepTime System.nanoTime() of this step (used by the renderer to interpolate).
+     */
+    public void writeSnapshot(RenderSnapshot target, long stepTime) {
+        target.clear(stepTime);
+
+        // 1. Sprites, in drawing order (the invincible player blinks)
+        target.addSprites(objects, isInvincible() ? player : null);
+
+        // 2. Background
+        target.setBackground(background);
+
+        // 3. HUD
+        target.setHud(state, score, lives, getStageText(), currentMessageLines);
+        target.setAbility(1, isAbilityUnclocked(1), ability1Timer);
+        target.setAbility(2, isAbilityUnclocked(2), ability2Timer);
+        target.setAbility(3, isAbilityUnclocked(3), ability3Timer);
+        target.setSavedStage(savedCheckpoint != null ? savedCheckpoint.getStage() : 0);
+    }
+
+    private void moveAll(EntityBucket<? extends GameObject> bucket) {
+        for (int i = 0; i < bucket.size(); i++) {
+            GameObject obj = bucket.get(i);
+            obj.savePreviousPosition();
+            obj.move();
+            obj.refreshHitbox();
+        }
     }
 
     /**
@@ -446,22 +631,22 @@ public class GameModel {
     private void spawnMinion(Class<? extends Minion> type) {
         int x,y;
         if (type == Harpy.class) {
-            x = rand.nextInt(GameConstants.WINDOW_WIDTH - GameConstants.HARPY_WIDTH); // Random X
+            x = spawnRandom.nextInt(GameConstants.WINDOW_WIDTH - GameConstants.HARPY_WIDTH); // Random X
             y = GameConstants.HUD_HEIGHT - GameConstants.HARPY_HEIGHT; // Start at top
             Harpy h = new Harpy(x, y, this);
-            newObjectsBuffer.add(h);
+            minions.addLater(h);
         }
         else if (type == Cyclops.class) {
-            x = rand.nextInt(GameConstants.WINDOW_WIDTH - GameConstants.CYCLOPS_WIDTH); // Random X
+            x = spawnRandom.nextInt(GameConstants.WINDOW_WIDTH - GameConstants.CYCLOPS_WIDTH); // Random X
             y = GameConstants.HUD_HEIGHT - GameConstants.CYCLOPS_HEIGHT; // Start at top
             Cyclops c = new Cyclops(x, y, this);
-            newObjectsBuffer.add(c);
+            minions.addLater(c);
         }
         else if (type == Minotaur.class) {
-            x = rand.nextInt(GameConstants.WINDOW_WIDTH - GameConstants.MINOTAUR_WIDTH); // Random X
+            x = spawnRandom.nextInt(GameConstants.WINDOW_WIDTH - GameConstants.MINOTAUR_WIDTH); // Random X
             y = GameConstants.HUD_HEIGHT;
             Minotaur m = new Minotaur(x, y, this);
-            newObjectsBuffer.add(m);
+            minions.addLater(m);
         }
     }
 
@@ -470,7 +655,18 @@ public class GameModel {
      */
     public void spawnEnemyProjectile(Projectile p) {
         if (p != null) {
-            newObjectsBuffer.add(p);
+            spawnProjectile(p);
+        }
+    }
+
+    /**
+     * Queues a projectile in the bucket of its team.
+     */
+    private void spawnProjectile(Projectile p) {
+        if (p.getAlignment() == Alignment.PLAYER) {
+            playerProjectiles.addLater(p);
+        } else {
+            enemyProjectiles.addLater(p);
         }
     }
 
@@ -484,8 +680,49 @@ public class GameModel {
      * Used when starting a boss fight or changing stages.
      */
     private void clearEverything() {
-        objects.removeIf(obj -> obj instanceof HostileEntity || obj instanceof Projectile);
-        newObjectsBuffer.removeIf(obj -> obj instanceof HostileEntity || obj instanceof Projectile);
+        bosses.clear();
+        minions.clear();
+        enemyProjectiles.clear(projectileRecycler);
+        playerProjectiles.clear(projectileRecycler);
+    }
+
+    // --- PROJECTILE POOLS ---
+
+    /**
+     * An Arrow with the current damage, speed and sprite of the Player's bow.
+     */
+    Arrow acquireArrow(int x, int y) {
+        return arrowPool.acquire().init(x, y, arrowDamage, arrowSpeed, arrowImg);
+    }
+
+    public Feather acquireFeather(int x, int y) {
+        return featherPool.acquire().init(x, y);
+    }
+
+    public Boulder acquireBoulder(int x, int y, Cyclops owner) {
+        return boulderPool.acquire().init(x, y, owner);
+    }
+
+    public Lighting acquireLighting(int summonerX, int summonerY, int zeusVelX,
+                                    boolean isSecondPhase, boolean friendly, boolean ability2Active) {
+        return lightingPool.acquire().init(summonerX, summonerY, zeusVelX, isSecondPhase, friendly, ability2Active);
+    }
+
+    /**
+     * Gives a removed projectile back to the pool it came from (if any).
+     */
+    private void releaseProjectile(Projectile p) {
+        if (p.pool != null) {
+            p.pool.release(p);
+        }
+    }
+
+    /**
+     * Statistics of the projectile pools (in use, high-water mark, allocations),
+     * used to size the caps in GameConstants.
+     */
+    public List<ProjectilePool<?>> getProjectilePools() {
+        return List.of(arrowPool, featherPool, boulderPool, lightingPool);
     }
 
     /**
@@ -494,12 +731,9 @@ public class GameModel {
     public void playerShoot() {
         if (!isGameOver) {
             // Spawn arrow centered above the player
-            Arrow a = new Arrow(player.getX() + (GameConstants.PLAYER_WIDTH - GameConstants.ARROW_WIDTH)/2,
-                    player.getY() - GameConstants.ARROW_HEIGHT,
-                    arrowDamage,
-                    arrowSpeed,
-                    arrowImg);
-            newObjectsBuffer.add(a);
+            Arrow a = acquireArrow(player.getX() + (GameConstants.PLAYER_WIDTH - GameConstants.ARROW_WIDTH)/2,
+                    player.getY() - GameConstants.ARROW_HEIGHT);
+            spawnProjectile(a);
         }
     }
 
@@ -511,30 +745,31 @@ public class GameModel {
         Sun sun = new Sun(
                 player.getX() + GameConstants.PLAYER_WIDTH / 2,
                 player.getY(),
-                0, false, true
+                0, false, true,
+                projectileRandom
         );
-        newObjectsBuffer.add(sun);
+        spawnProjectile(sun);
     }
 
     public void ability2(){
         if (ability2Timer > 0) return;
         ability2Timer = GameConstants.ABILITY2TIMER;
-        Lighting l = new Lighting(
+        Lighting l = acquireLighting(
                 player.getX(),
                 player.getY(),
                 0, false, true, false
         );
-        newObjectsBuffer.add(l);
+        spawnProjectile(l);
     }
 
     private void spawnApollo() {
         Apollo apollo = new Apollo(this);
-        objects.add(apollo);
+        bosses.add(apollo);
     }
 
     public void spawnZeus() {
         Zeus zeus = new Zeus(this);
-        objects.add(zeus);
+        bosses.add(zeus);
     }
 
     /**
@@ -557,21 +792,52 @@ public class GameModel {
 
     /**
      * Detailed Intersection Check.
-     * Uses Java AWT Area class for precise pixel-perfect collision detection.
+     * Sprites with a CollisionMask are tested pixel-perfect (bitwise AND of the masks).
+     * Rectangles and ellipses are tested with closed-form formulas (see Narrowphase),
+     * using the cached hitbox bounds (no allocations).
+     * The Java AWT Area class is only used as a fallback for custom shapes.
      */
     private boolean checkIntersection(GameObject obj1, GameObject obj2) {
-        // 1. Get Shapes
-        Shape s1 = obj1.getShape();
-        Shape s2 = obj2.getShape();
+        HitboxType type1 = obj1.getHitboxType();
+        HitboxType type2 = obj2.getHitboxType();
 
-        // 2. Quick Check: If bounds don't overlap, skip complex calculation
-        if (!s1.getBounds2D().intersects(s2.getBounds2D())) {
+        // 1. Quick Check: If bounds don't overlap, skip complex calculation
+        if (!Narrowphase.boundsIntersect(
+                obj1.getBoundsX(), obj1.getBoundsY(), obj1.getBoundsWidth(), obj1.getBoundsHeight(),
+                obj2.getBoundsX(), obj2.getBoundsY(), obj2.getBoundsWidth(), obj2.getBoundsHeight())) {
             return false;
         }
 
-        // 3. Precise Calculation (Area Intersection)
-        Area area1 = new Area(s1);
-        Area area2 = new Area(s2);
+        // 2. Pixel-Perfect Path: masks are placed at the top-left corner of the sprites
+        if (type1 != HitboxType.CUSTOM && type2 != HitboxType.CUSTOM) {
+            CollisionMask mask1 = getMatchingMask(obj1);
+            CollisionMask mask2 = getMatchingMask(obj2);
+
+            if (mask1 != null && mask2 != null) {
+                return mask1.overlaps(mask2, obj2.getX() - obj1.getX(), obj2.getY() - obj1.getY());
+            }
+            if (mask1 != null) {
+                return mask1.overlapsShape(type2,
+                        obj2.getBoundsX() - obj1.getX(), obj2.getBoundsY() - obj1.getY(),
+                        obj2.getBoundsWidth(), obj2.getBoundsHeight());
+            }
+            if (mask2 != null) {
+                return mask2.overlapsShape(type1,
+                        obj1.getBoundsX() - obj2.getX(), obj1.getBoundsY() - obj2.getY(),
+                        obj1.getBoundsWidth(), obj1.getBoundsHeight());
+            }
+        }
+
+        // 3. Fast Path: rectangles and ellipses are fully described by their bounds
+        if (type1 != HitboxType.CUSTOM && type2 != HitboxType.CUSTOM) {
+            return Narrowphase.intersects(
+                    type1, obj1.getBoundsX(), obj1.getBoundsY(), obj1.getBoundsWidth(), obj1.getBoundsHeight(),
+                    type2, obj2.getBoundsX(), obj2.getBoundsY(), obj2.getBoundsWidth(), obj2.getBoundsHeight());
+        }
+
+        // 4. Precise Calculation (Area Intersection)
+        Area area1 = new Area(obj1.getShape());
+        Area area2 = new Area(obj2.getShape());
 
         area1.intersect(area2);
 
@@ -579,106 +845,258 @@ public class GameModel {
         return !area1.isEmpty();
     }
 
+    /**
+     * Returns the collision mask of an object, only if it matches the object size.
+     * (A mask built for another size would not line up with the sprite on screen.)
+     */
+    private CollisionMask getMatchingMask(GameObject obj) {
+        CollisionMask mask = obj.getCollisionMask();
+        if (mask == null || mask.getWidth() != obj.width || mask.getHeight() != obj.height) return null;
+        return mask;
+    }
+
+    /**
+     * Swept Intersection Check (continuous collision for fast objects).
+     * The hitbox of the mover is swept along its movement of the last frame
+     * (minus the movement of the target, if the target is swept too) and tested against the target.
+     * @return The earliest time of impact in [0, 1], or -1 if they don't collide.
+     */
+    private double checkSweptIntersection(GameObject mover, GameObject target) {
+        // 1. Relative movement during the last frame
+        int dx = mover.getX() - mover.getPrevX();
+        int dy = mover.getY() - mover.getPrevY();
+        if (target.isSwept()) {
+            dx -= target.getX() - target.getPrevX();
+            dy -= target.getY() - target.getPrevY();
+        }
+
+        // 2. Time of impact of the bounds
+        double toi = Narrowphase.sweepTimeOfImpact(
+                mover.getBoundsX() - dx, mover.getBoundsY() - dy, mover.getBoundsWidth(), mover.getBoundsHeight(), dx, dy,
+                target.getBoundsX(), target.getBoundsY(), target.getBoundsWidth(), target.getBoundsHeight());
+        if (toi < 0) return -1;
+
+        // 3. Precise check of the whole swept area (a rectangle, since projectiles move along one axis)
+        double sweptX = mover.getBoundsX() - Math.max(0, dx);
+        double sweptY = mover.getBoundsY() - Math.max(0, dy);
+        double sweptW = mover.getBoundsWidth() + Math.abs(dx);
+        double sweptH = mover.getBoundsHeight() + Math.abs(dy);
+
+        CollisionMask targetMask = getMatchingMask(target);
+        if (targetMask != null) {
+            return targetMask.overlapsShape(HitboxType.RECTANGLE,
+                    sweptX - target.getX(), sweptY - target.getY(), sweptW, sweptH) ? toi : -1;
+        }
+        if (target.getHitboxType() != HitboxType.CUSTOM) {
+            return Narrowphase.intersects(HitboxType.RECTANGLE, sweptX, sweptY, sweptW, sweptH,
+                    target.getHitboxType(), target.getBoundsX(), target.getBoundsY(),
+                    target.getBoundsWidth(), target.getBoundsHeight()) ? toi : -1;
+        }
+        return toi; // Custom shapes: bounds only
+    }
+
+    /**
+     * Swept projectiles that vanish on impact only hit their earliest target of the frame.
+     */
+    private boolean isFirstHitOnly(Projectile p) {
+        return p.isSwept() && !p.isPenetrating();
+    }
+
     /**
      * Centralized Collision Logic.
-     * Iterates through all objects to check for intersections.
+     * Only the bucket combinations that can interact are tested: the Player and the Player's
+     * projectiles against the Bosses, the Minions and the enemy projectiles, each pair of buckets
+     * only if the CollisionLayer matrix allows it (looked up once per pass, not per object),
+     * and only with the candidates found by the broadphases.
+     *
+     * Order: like the (i, j) scan of the original objects list, every object meets its partners
+     * in spawn order (the model-wide keys of the SpawnOrder), whatever their bucket:
+     * the Player's side is visited in spawn order, and the candidates of each object are merged
+     * on their key. One difference remains: an object that died earlier in the step is skipped
+     * in all its later pairs (the scan still resolved the rest of its own row).
      */
     private void checkCollisions() {
-        for (int i = 0; i < objects.size(); i++) {
-            GameObject objA = objects.get(i);
-            if (objA.isDead()) continue;
+        // 0. Bucket pairs allowed by the matrix (Bosses and Minions are both ENEMY_BODY)
+        boolean playerVsBodies = CollisionLayer.canInteract(CollisionLayer.PLAYER_BODY, CollisionLayer.ENEMY_BODY);
+        boolean playerVsProjectiles = canHitEnemyProjectiles(CollisionLayer.PLAYER_BODY);
+        boolean arrowsVsBodies = CollisionLayer.canInteract(CollisionLayer.PLAYER_PROJECTILE, CollisionLayer.ENEMY_BODY);
+        boolean arrowsVsProjectiles = canHitEnemyProjectiles(CollisionLayer.PLAYER_PROJECTILE);
+
+        // 1. Player body vs enemy bodies and enemy projectiles
+        // (the Player is re-added first after every reset: always the oldest object)
+        if (!player.isDead()) {
+            collideWithEnemies(player, playerVsBodies, playerVsProjectiles, false);
+        }
 
-            for (int j = i + 1; j < objects.size(); j++) {
-                GameObject objB = objects.get(j);
-                if (objB.isDead()) continue;
+        // 2. Player projectiles vs enemy bodies and enemy projectiles
+        List<Projectile> friendlies = playerProjectiles.inRenderOrder();
+        for (int i = 0; i < friendlies.size(); i++) {
+            Projectile proj = friendlies.get(i);
+            if (proj.isDead()) continue;
 
-                if (checkIntersection(objA, objB)) {
-                    handleCollision(objA, objB);
-                }
+            boolean firstHitOnly = isFirstHitOnly(proj);
+            firstHitTarget = null;
+            collideWithEnemies(proj, arrowsVsBodies, arrowsVsProjectiles, firstHitOnly);
+
+            // Swept Arrows: apply only the earliest hit of the frame
+            if (firstHitTarget != null && !firstHitTarget.isDead()) {
+                applyHit(proj, firstHitTarget, firstHitIsProjectile);
             }
         }
     }
 
     /**
-     * Handles the specific logic when two objects collide.
-     * Uses Projectile Power Levels and Alignment to determine the outcome.
+     * The enemy projectiles bucket holds two layers (ENEMY_PROJECTILE and BOSS_PROJECTILE):
+     * it is tested if either of them can interact with the layer.
      */
-    private void handleCollision(GameObject a, GameObject b) {
-
-        // --- CASE 1: PROJECTILE vs PROJECTILE ---
-        if (a instanceof Projectile && b instanceof Projectile) {
-            Projectile p1 = (Projectile) a;
-            Projectile p2 = (Projectile) b;
+    private static boolean canHitEnemyProjectiles(CollisionLayer layer) {
+        return CollisionLayer.canInteract(layer, CollisionLayer.ENEMY_PROJECTILE)
+                || CollisionLayer.canInteract(layer, CollisionLayer.BOSS_PROJECTILE);
+    }
 
-            // Same team projectiles do not destroy each other
-            if (p1.getAlignment() == p2.getAlignment()) return;
+    /**
+     * Tests one object of the Player's side against the enemy buckets allowed by the matrix.
+     * The candidate lists (each already in spawn order) are merged on the spawn key.
+     * @param vsBodies If false, the Bosses and the Minions are skipped.
+     * @param vsProjectiles If false, the enemy projectiles are skipped.
+     * @param deferHits If true, hits are only recorded (the earliest one goes in firstHitTarget).
+     */
+    private void collideWithEnemies(GameObject friendly, boolean vsBodies, boolean vsProjectiles, boolean deferHits) {
+        List<Boss> bossCandidates = vsBodies ? bosses.inRenderOrder() : List.of(); // At most one Boss, no broadphase needed
+        int minionCount = vsBodies ? minionBroadphase.query(friendly) : 0;
+        int[] minionCandidates = minionBroadphase.getCandidates();
+        int projectileCount = vsProjectiles ? enemyProjectileBroadphase.query(friendly) : 0;
+        int[] projectileCandidates = enemyProjectileBroadphase.getCandidates();
+
+        int b = 0, m = 0, p = 0;
+        while (!friendly.isDead()) {
+            GameObject boss = (b < bossCandidates.size()) ? bossCandidates.get(b) : null;
+            GameObject minion = (m < minionCount) ? minions.get(minionCandidates[m]) : null;
+            GameObject projectile = (p < projectileCount) ? enemyProjectiles.get(projectileCandidates[p]) : null;
+
+            GameObject enemy = spawnedFirst(spawnedFirst(boss, minion), projectile);
+            if (enemy == null) break;
+            if (enemy == boss) b++;
+            else if (enemy == minion) m++;
+            else p++;
+
+            collidePair(friendly, enemy, enemy == projectile, deferHits);
+        }
+    }
 
-            // Compare Power Levels to see who survives
-            if (p1.getPowerLevel() > p2.getPowerLevel()) {
-                p2.setDead(); // p1 dominates
+    /**
+     * @return The object that entered the game first (null only if both are null).
+     */
+    private static GameObject spawnedFirst(GameObject a, GameObject b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return (a.renderKey < b.renderKey) ? a : b;
+    }
 
-                //  BOSS PROJECTILE CASE: takes damage equal to p2's damage
-                if (p1 instanceof BossProjectile) {
-                    ((BossProjectile) p1).reduceHealth(p2.getDamage());
-                }
+    private void collidePair(GameObject friendly, GameObject enemy, boolean enemyIsProjectile, boolean deferHits) {
+        if (enemy.isDead()) return;
 
-            } else if (p2.getPowerLevel() > p1.getPowerLevel()) {
-                p1.setDead();
+        // Discrete collision
+        if (!friendly.isSwept() && !enemy.isSwept()) {
+            if (checkIntersection(friendly, enemy)) {
+                applyHit(friendly, enemy, enemyIsProjectile);
+            }
+            return;
+        }
 
-                // BOSS PROJECTILE CASE: takes damage equal to p1's damage
-                if (p2 instanceof BossProjectile) {
-                    ((BossProjectile) p2).reduceHealth(p1.getDamage());
-                }
+        // Swept collision: the "mover" is the swept object (the Player's one if both are swept)
+        GameObject mover = friendly.isSwept() ? friendly : enemy;
+        GameObject target = (mover == friendly) ? enemy : friendly;
+        double toi = checkSweptIntersection(mover, target);
+        if (toi < 0) return;
+
+        if (deferHits) {
+            // Keep only the earliest impact
+            if (firstHitTarget == null || toi < firstHitTime) {
+                firstHitTarget = enemy;
+                firstHitTime = toi;
+                firstHitIsProjectile = enemyIsProjectile;
+            }
+        } else {
+            applyHit(friendly, enemy, enemyIsProjectile);
+        }
+    }
 
+    /**
+     * Handles the specific logic when two objects collide.
+     * The buckets already tell the type of both objects, so no 'instanceof' is needed.
+     * @param friendly The Player or one of the Player's projectiles.
+     * @param enemy A Boss, a Minion or an enemy projectile.
+     * @param enemyIsProjectile true if the enemy comes from the enemy projectiles bucket.
+     */
+    private void applyHit(GameObject friendly, GameObject enemy, boolean enemyIsProjectile) {
+        if (friendly == player) {
+            if (enemyIsProjectile) {
+                projectileHitsPlayer((Projectile) enemy);
             } else {
-                // Equal power (e.g., Arrow vs Feather) -> Both destroyed
-                p1.setDead();
-                p2.setDead();
+                // PHYSICAL COLLISION (Player vs Enemy Body)
+                playerTakesDamage();
             }
             return;
         }
 
-        // --- CASE 2: PROJECTILE vs LIVING ENTITY (Player or Enemy) ---
-        Projectile proj = null;
-        GameObject entity = null;
+        Projectile proj = (Projectile) friendly;
+        if (enemyIsProjectile) {
+            projectilesClash(proj, (Projectile) enemy);
+        } else {
+            projectileHitsEnemy(proj, (HostileEntity) enemy);
+        }
+    }
 
-        // Identify which is which
-        if (a instanceof Projectile) { proj = (Projectile) a; entity = b; }
-        else if (b instanceof Projectile) { proj = (Projectile) b; entity = a; }
+    /**
+     * PROJECTILE vs PROJECTILE (always from opposite teams).
+     * Compares the Power Levels to see who survives.
+     */
+    private void projectilesClash(Projectile p1, Projectile p2) {
+        if (p1.getPowerLevel() > p2.getPowerLevel()) {
+            p2.setDead(); // p1 dominates
 
-        if (proj != null) {
-            // Sub-case A: Projectile hits Player
-            if (entity instanceof Player) {
-                if (proj.getAlignment() == Alignment.ENEMY) {
-                    playerTakesDamage();
-                    if (!proj.isPenetrating()) proj.setDead();
-                }
+            //  BOSS PROJECTILE CASE: takes damage equal to p2's damage
+            if (p1 instanceof BossProjectile) {
+                ((BossProjectile) p1).reduceHealth(p2.getDamage());
             }
-            // Sub-case B: Projectile hits Enemy (Harpy, Apollo, Golem, etc.)
-            else if (entity instanceof HostileEntity) {
-                HostileEntity enemy = (HostileEntity) entity;
-
-                // Only damage if the projectile belongs to the Player
-                if (proj.getAlignment() == Alignment.PLAYER) {
-                    enemy.takeDamage(proj.getDamage());
-
-                    // BOSS PROJECTILE CASE: loses HP upon contact
-                    if (proj instanceof BossProjectile) {
-                        ((BossProjectile) proj).reduceHealth(1);
-                    }
-
-                    else if (!proj.isPenetrating()) {
-                        proj.setDead();
-                    }
-                }
+
+        } else if (p2.getPowerLevel() > p1.getPowerLevel()) {
+            p1.setDead();
+
+            // BOSS PROJECTILE CASE: takes damage equal to p1's damage
+            if (p2 instanceof BossProjectile) {
+                ((BossProjectile) p2).reduceHealth(p1.getDamage());
             }
-            return;
+
+        } else {
+            // Equal power (e.g., Arrow vs Feather) -> Both destroyed
+            p1.setDead();
+            p2.setDead();
+        }
+    }
+
+    /**
+     * Enemy projectile hits the Player.
+     */
+    private void projectileHitsPlayer(Projectile proj) {
+        playerTakesDamage();
+        if (!proj.isPenetrating()) proj.setDead();
+    }
+
+    /**
+     * Player projectile hits an Enemy (Harpy, Apollo, Golem, etc.).
+     */
+    private void projectileHitsEnemy(Projectile proj, HostileEntity enemy) {
+        enemy.takeDamage(proj.getDamage());
+
+        // BOSS PROJECTILE CASE: loses HP upon contact
+        if (proj instanceof BossProjectile) {
+            ((BossProjectile) proj).reduceHealth(1);
         }
 
-        // --- CASE 3: PHYSICAL COLLISION (Player vs Enemy Body) ---
-        if ((a instanceof Player && b instanceof HostileEntity) ||
-                (b instanceof Player && a instanceof HostileEntity)) {
-            playerTakesDamage();
+        else if (!proj.isPenetrating()) {
+            proj.setDead();
         }
     }
 
@@ -725,11 +1143,249 @@ public class GameModel {
         this.state = GameState.PLAYING;
     }
 
+    // --- KEYFRAMES (full state of the simulation, see Keyframe) ---
+
+    /**
+     * Writes everything needed to continue this game exactly from the current step:
+     * progression, timers, spawners, every entity and the position of the random streams.
+     * Called between two updates (never during one).
+     */
+    void writeState(DataOutput out) throws IOException {
+        // 1. Game state & progression
+        out.writeByte(state.ordinal());
+        out.writeBoolean(isGameOver);
+        out.writeBoolean(isFiring);
+        out.writeInt(shotTimer);
+        out.writeInt(arrowDamage);
+        out.writeInt(arrowInterval);
+        out.writeInt(arrowSpeed);
+        out.writeInt(score);
+        out.writeInt(nextTargetScore);
+        out.writeInt(currentLevelIndex);
+        out.writeInt(lastCheckpointIndex);
+        out.writeBoolean(isBossActive);
+        out.writeInt(currentStage);
+
+        // 2. Player stats & cooldowns
+        out.writeInt(lives);
+        out.writeInt(damageTimer);
+        out.writeInt(ability1Timer);
+        out.writeInt(ability2Timer);
+        out.writeInt(ability3Timer);
+
+        // 3. Environment & message box
+        out.writeBoolean(background != null);
+        if (background != null) background.writeState(out);
+        out.writeInt(currentMessageLines == null ? -1 : currentMessageLines.length);
+        if (currentMessageLines != null) {
+            for (String line : currentMessageLines) out.writeUTF(line);
+        }
+
+        // 4. Spawners
+        out.writeInt(activeSpawners.size());
+        for (EnemySpawner s : activeSpawners) s.writeState(out);
+
+        // 5. Entities, bucket by bucket in simulation order (Minions before the Boulders referencing them),
+        //    then the ones spawned since the last update in spawn order
+        writeBucket(out, players);
+        writeBucket(out, bosses);
+        writeBucket(out, minions);
+        writeBucket(out, enemyProjectiles);
+        writeBucket(out, playerProjectiles);
+        out.writeInt(spawnOrder.getQueuedCount());
+        for (int i = 0; i < spawnOrder.getQueuedCount(); i++) {
+            out.writeByte(bucketIndex(spawnOrder.getQueuedBucket(i)));
+            Keyframe.writeObject(out, spawnOrder.getQueuedObject(i), this);
+        }
+        out.writeLong(spawnOrder.peekNextKey());
+
+        // 6. Random streams (last: creating the entities on restore draws from them)
+        spawnRandom.writeState(out);
+        enemyRandom.writeState(out);
+        projectileRandom.writeState(out);
+    }
+
+    /**
+     * Replaces the whole state of this game with the one written by writeState()
+     * (by a model created with the same seed).
+     */
+    void readState(DataInput in) throws IOException {
+        // 0. Drop the current entities (the projectiles go back to their pools)
+        players.clear();
+        clearEverything();
+        activeSpawners.clear();
+        firstHitTarget = null;
+
+        // 1. Game state & progression
+        state = GameState.values()[in.readUnsignedByte()];
+        isGameOver = in.readBoolean();
+        isFiring = in.readBoolean();
+        shotTimer = in.readInt();
+        arrowDamage = in.readInt();
+        arrowInterval = in.readInt();
+        arrowSpeed = in.readInt();
+        score = in.readInt();
+        nextTargetScore = in.readInt();
+        currentLevelIndex = in.readInt();
+        lastCheckpointIndex = in.readInt();
+        isBossActive = in.readBoolean();
+        currentStage = in.readInt();
+        arrowImg = stageSprite(ResourceManager.arrowImg, ResourceManager.arrowFireImg, ResourceManager.arrowLightingImg);
+
+        // 2. Player stats & cooldowns
+        lives = in.readInt();
+        damageTimer = in.readInt();
+        ability1Timer = in.readInt();
+        ability2Timer = in.readInt();
+        ability3Timer = in.readInt();
+
+        // 3. Environment & message box
+        if (in.readBoolean()) {
+            if (background == null) background = new Background();
+            background.readState(in);
+            background.setImage(stageSprite(ResourceManager.stage1Img, ResourceManager.stage2Img, ResourceManager.stage3Img));
+        } else {
+            background = null;
+        }
+        int lineCount = in.readInt();
+        currentMessageLines = (lineCount < 0) ? null : new String[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            currentMessageLines[i] = in.readUTF();
+        }
+
+        // 4. Spawners
+        int spawnerCount = in.readInt();
+        for (int i = 0; i < spawnerCount; i++) {
+            activeSpawners.add(EnemySpawner.readState(in));
+        }
+
+        // 5. Entities
+        readBucket(in, players, Player.class);
+        readBucket(in, bosses, Boss.class);
+        readBucket(in, minions, Minion.class);
+        readBucket(in, enemyProjectiles, Projectile.class);
+        readBucket(in, playerProjectiles, Projectile.class);
+        int queuedCount = in.readInt();
+        for (int i = 0; i < queuedCount; i++) {
+            int bucket = in.readUnsignedByte();
+            switch (bucket) {
+                case 0:
+                    players.addLater(readEntity(in, Player.class));
+                    break;
+                case 1:
+                    bosses.addLater(readEntity(in, Boss.class));
+                    break;
+                case 2:
+                    minions.addLater(readEntity(in, Minion.class));
+                    break;
+                case 3:
+                    enemyProjectiles.addLater(readEntity(in, Projectile.class));
+                    break;
+                case 4:
+                    playerProjectiles.addLater(readEntity(in, Projectile.class));
+                    break;
+                default:
+                    throw new IOException("Unknown bucket in keyframe: " + bucket);
+            }
+        }
+        spawnOrder.restoreNextKey(in.readLong());
+        player = players.isEmpty() ? null : players.get(0);
+        if (player != null) {
+            player.setImage(stageSprite(ResourceManager.playerImg, ResourceManager.playerImg2, ResourceManager.playerImg3));
+        }
+
+        // 6. Random streams
+        spawnRandom.readState(in);
+        enemyRandom.readState(in);
+        projectileRandom.readState(in);
+    }
+
+    private void writeBucket(DataOutput out, EntityBucket<?> bucket) throws IOException {
+        out.writeInt(bucket.size());
+        for (int i = 0; i < bucket.size(); i++) {
+            GameObject obj = bucket.get(i);
+            out.writeLong(obj.renderKey);
+            Keyframe.writeObject(out, obj, this);
+        }
+    }
+
+    private <T extends GameObject> void readBucket(DataInput in, EntityBucket<T> bucket, Class<T> type) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            long renderKey = in.readLong();
+            bucket.restore(readEntity(in, type), renderKey);
+        }
+        bucket.restoreRenderOrder();
+    }
+
+    /**
+     * @return The number of a bucket in the keyframes (the order of writeState).
+     */
+    private int bucketIndex(EntityBucket<?> bucket) {
+        if (bucket == players) return 0;
+        if (bucket == bosses) return 1;
+        if (bucket == minions) return 2;
+        if (bucket == enemyProjectiles) return 3;
+        return 4;
+    }
+
+    private <T extends GameObject> T readEntity(DataInput in, Class<T> type) throws IOException {
+        GameObject obj = Keyframe.readObject(in, this);
+        if (!type.isInstance(obj)) {
+            throw new IOException("Unexpected " + obj.getClass().getSimpleName() + " among the " + type.getSimpleName() + "s");
+        }
+        return type.cast(obj);
+    }
+
+    /**
+     * Picks the sprite of the current stage (the Player, the arrows and the background change with it).
+     */
+    private BufferedImage stageSprite(BufferedImage stage1, BufferedImage stage2, BufferedImage stage3) {
+        switch (currentStage) {
+            case 0:
+                return null; // Not started yet
+            case 1:
+                return stage1;
+            case 2:
+                return stage2;
+            default:
+                return stage3;
+        }
+    }
+
+    /**
+     * @return The slot of a Minion in its bucket, or -1 if it is not in the game (anymore).
+     */
+    int indexOfMinion(Minion minion) {
+        if (minion == null) return -1;
+        int slot = minion.bucketSlot;
+        return (slot >= 0 && slot < minions.size() && minions.get(slot) == minion) ? slot : -1;
+    }
+
+    Minion getMinion(int index) {
+        return minions.get(index);
+    }
+
     // --- SETTERS & GETTERS ---
-    public ArrayList<GameObject> getObjects() {
+    /**
+     * @return A read-only view of all the active objects, in drawing order.
+     */
+    public List<GameObject> getObjects() {
         return objects;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    GameRandom getEnemyRandom() {
+        return enemyRandom;
+    }
+
+    GameRandom getProjectileRandom() {
+        return projectileRandom;
+    }
+
     public Player getPlayer() {
         return player;
     }
@@ -1,8 +1,14 @@
 package model;
 
+import view.ResourceManager;
+
 import java.awt.*;
 import java.awt.geom.Rectangle2D;
+import java.awt.geom.RectangularShape;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * GameObject (Abstract Base Class)
@@ -14,15 +20,27 @@ import java.awt.image.BufferedImage;
  * - Position (x, y) and Dimensions (width, height).
  * - Lifecycle state (isDead flag).
  * - Object Movement (move method)
- * - Rendering interface (draw method).
- * - Collision boundaries (getBounds/getShape).
+ * - Rendering description (sprite, orientation, drawing rectangle), copied into the RenderSnapshot.
+ * - Collision boundaries (getShape/getBounds), cached and refreshed once per frame.
+ * - Saving / restoring its state for the Keyframes (writeState/readState).
  */
 public abstract class GameObject {
     protected int x, y;            // Screen coordinates
+    protected int prevX, prevY;    // Coordinates before the last move() (used by swept collisions)
     protected int width, height;   // Object dimensions
     protected boolean isDead = false; // If true, the GameModel will remove this object from the list
     protected BufferedImage image; // The sprite texture
 
+    // --- HITBOX CACHE ---
+    // A single mutable shape per object, refreshed after each move() (no allocations per frame)
+    private final RectangularShape hitbox;
+    private float boundsX, boundsY, boundsWidth, boundsHeight;
+    private float sweptX, sweptY, sweptWidth, sweptHeight; // Bounds + the path covered in the last move()
+
+    // --- BUCKET BOOKKEEPING (see EntityBucket) ---
+    int bucketSlot = -1;  // Slot in the dense array of its bucket (-1 if in none)
+    long renderKey;       // Spawn order in the whole model (drawing and collision order, see SpawnOrder)
+
     /**
      * Constructor for a generic game object.
      * @param x Initial X position
@@ -34,9 +52,12 @@ public abstract class GameObject {
     public GameObject(int x, int y, int w, int h, BufferedImage image) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = w;
         this.height = h;
         this.image = image;
+        this.hitbox = createHitbox();
     }
 
     /**
@@ -45,21 +66,188 @@ public abstract class GameObject {
     public abstract void move();
 
     /**
-     * Abstract method to render the object to the screen.
-     * @param g The Graphics context from the GamePanel.
+     * Creates the reusable hitbox instance (called once, by the constructor).
+     * Subclasses with round hitboxes override this to return an Ellipse2D
+     * (together with getHitboxType()).
      */
-    public abstract void draw(Graphics g);
+    protected RectangularShape createHitbox() {
+        // Default shape is a rectangle
+        return new Rectangle2D.Float();
+    }
+
+    /**
+     * Moves the hitbox to the current position of the object.
+     * Subclasses can override this to shrink or offset the hitbox (e.g. the Player's padding).
+     * @param hitbox The shape returned by createHitbox().
+     */
+    protected void updateHitbox(RectangularShape hitbox) {
+        hitbox.setFrame(x, y, width, height);
+    }
 
     /**
-     * Returns a precise Shape for collision detection.
-     * Subclasses (like balls or circular enemies) can override this to return
-     * Ellipses or Polygons for pixel-perfect collision.
+     * Brings a recycled object back to life at a new position (see ProjectilePool).
+     * Subclasses reset the rest of their state in their own init(...) method.
+     */
+    protected void respawn(int x, int y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.isDead = false;
+    }
+
+    /**
+     * Saves the current position as the start of the next movement.
+     * Called by the GameModel right before move().
+     */
+    public final void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    /**
+     * Refreshes the cached hitbox and bounds.
+     * Called by the GameModel exactly once after move(), before the collision checks.
+     */
+    public final void refreshHitbox() {
+        updateHitbox(hitbox);
+        boundsX = (float) hitbox.getX();
+        boundsY = (float) hitbox.getY();
+        boundsWidth = (float) hitbox.getWidth();
+        boundsHeight = (float) hitbox.getHeight();
+
+        // Swept bounds: union of the hitbox before and after the last movement
+        sweptX = boundsX;
+        sweptY = boundsY;
+        sweptWidth = boundsWidth;
+        sweptHeight = boundsHeight;
+        if (isSwept()) {
+            int dx = x - prevX;
+            int dy = y - prevY;
+            sweptX -= Math.max(0, dx);
+            sweptY -= Math.max(0, dy);
+            sweptWidth += Math.abs(dx);
+            sweptHeight += Math.abs(dy);
+        }
+    }
+
+    /**
+     * Capability flag for fast objects (continuous collision).
+     * If true, collisions are tested along the whole path covered since the previous frame,
+     * so the object cannot "tunnel" through thin targets when it moves more than their size.
+     * Default is false (discrete collision at the current position).
+     */
+    public boolean isSwept() {
+        return false;
+    }
+
+    /**
+     * Returns the precise Shape for collision detection (as of the last refreshHitbox()).
+     * The returned object is shared: it must be treated as read-only.
      */
     public Shape getShape() {
-        // Default shape is a rectangle
-        return new Rectangle2D.Float(x, y, width, height);
+        return hitbox;
+    }
+
+    /**
+     * Describes the geometry returned by getShape().
+     * Must be overridden together with createHitbox() (e.g. ELLIPSE for round hitboxes),
+     * so the GameModel can use the fast closed-form intersection tests.
+     */
+    public HitboxType getHitboxType() {
+        return HitboxType.RECTANGLE;
     }
 
+    /**
+     * Returns the pixel-perfect hitbox of the current sprite, scaled to the object size.
+     * Objects without a mask (e.g. the Player, whose hitbox is kept smaller on purpose)
+     * collide using their geometric hitbox only.
+     * @return The mask, or null if the sprite has none.
+     */
+    public CollisionMask getCollisionMask() {
+        return ResourceManager.getCollisionMask(image, isFlipped());
+    }
+
+    /**
+     * Returns the collision layer of this object.
+     * Used by the GameModel to skip pairs that can never interact (see CollisionLayer).
+     */
+    public abstract CollisionLayer getCollisionLayer();
+
+    // --- RENDERING DESCRIPTION (read by the GameModel when it fills the RenderSnapshot) ---
+
+    /**
+     * Sprite to draw this frame. Enemies override this to return their white silhouette while flashing.
+     */
+    public BufferedImage getSprite() {
+        return image;
+    }
+
+    /**
+     * True if the sprite is drawn mirrored horizontally (also selects the mirrored collision mask).
+     */
+    public boolean isFlipped() {
+        return false;
+    }
+
+    // Drawing rectangle (the object bounds by default)
+    public int getDrawX() { return x; }
+    public int getDrawY() { return y; }
+    public int getDrawWidth() { return width; }
+    public int getDrawHeight() { return height; }
+
+    /**
+     * Color drawn instead of the sprite if its image failed to load
+     * (an oval for ELLIPSE hitboxes, a rectangle otherwise).
+     */
+    public Color getFallbackColor() {
+        return Color.WHITE;
+    }
+
+    // --- KEYFRAMES (see Keyframe) ---
+
+    /**
+     * Writes the state needed to continue the simulation exactly from this point.
+     * Subclasses call super first, then write their own fields.
+     * The sprite is not written: readState() picks it again from the restored state.
+     */
+    protected void writeState(DataOutput out) throws IOException {
+        out.writeInt(x);
+        out.writeInt(y);
+        out.writeInt(prevX);
+        out.writeInt(prevY);
+        out.writeInt(width);
+        out.writeInt(height);
+    }
+
+    /**
+     * Reads back, in the same order, the fields written by writeState()
+     * (into a blank object of the same class).
+     */
+    protected void readState(DataInput in) throws IOException {
+        x = in.readInt();
+        y = in.readInt();
+        prevX = in.readInt();
+        prevY = in.readInt();
+        width = in.readInt();
+        height = in.readInt();
+        isDead = false;
+    }
+
+    // --- HITBOX BOUNDS (read-only, as of the last refreshHitbox()) ---
+    public float getBoundsX() { return boundsX; }
+    public float getBoundsY() { return boundsY; }
+    public float getBoundsWidth() { return boundsWidth; }
+    public float getBoundsHeight() { return boundsHeight; }
+
+    // --- SWEPT BOUNDS (same as the bounds for objects that are not swept) ---
+    public float getSweptX() { return sweptX; }
+    public float getSweptY() { return sweptY; }
+    public float getSweptWidth() { return sweptWidth; }
+    public float getSweptHeight() { return sweptHeight; }
+    public int getPrevX() { return prevX; }
+    public int getPrevY() { return prevY; }
+
     public boolean isDead() {
         return isDead;
     }
@@ -0,0 +1,132 @@
+package model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * GameRandom Class
+ *
+ * The only source of randomness of the simulation: a small, seedable and splittable
+ * generator (SplitMix64, the algorithm behind java.util.SplittableRandom).
+ *
+ * Why not Math.random() / new Random():
+ * - Reproducible: the same seed (and the same inputs) always produce the same game.
+ * - Splittable: split() creates an independent stream, so each subsystem (spawning, enemies,
+ *   projectiles...) gets its own, and adding a random call in one does not shift the others.
+ * - No contention: Math.random() shares one synchronized generator across all threads,
+ *   while every GameModel here owns its generators.
+ * - The whole state is two longs, so it can be saved and restored with the game.
+ *
+ * Not thread-safe: a generator belongs to one GameModel (one simulation thread).
+ */
+public class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53; // 1.0 / (1L << 53)
+
+    // --- STATE ---
+    long seed;        // Advanced by gamma at every call
+    final long gamma; // Odd increment, different for every split stream
+
+    /**
+     * Creates a generator from a seed.
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Creates a new generator, statistically independent from this one.
+     * This generator advances by two values.
+     */
+    public GameRandom split() {
+        return new GameRandom(mix64(nextSeed()), mixGamma(nextSeed()));
+    }
+
+    // --- VALUES ---
+
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * @return A uniformly distributed int in [0, bound).
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive: " + bound);
+
+        // Rejection sampling on the upper 31 bits (no modulo bias)
+        int r = (int) (nextLong() >>> 33);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >>> 31); // Power of two
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong() >>> 33)) {
+            // Retry: 'u' fell in the incomplete last block
+        }
+        return r;
+    }
+
+    /**
+     * @return A uniformly distributed double in [0, 1) (drop-in for Math.random()).
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    // --- KEYFRAMES (see Keyframe) ---
+
+    void writeState(DataOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeLong(gamma);
+    }
+
+    /**
+     * Restores the position of this stream (the stream itself, i.e. its gamma, must be the same).
+     */
+    void readState(DataInput in) throws IOException {
+        long savedSeed = in.readLong();
+        if (in.readLong() != gamma) throw new IOException("Keyframe of another random stream");
+        seed = savedSeed;
+    }
+
+    /**
+     * Creates the generator saved by writeState().
+     */
+    static GameRandom read(DataInput in) throws IOException {
+        return new GameRandom(in.readLong(), in.readLong());
+    }
+
+    // --- SPLITMIX64 ---
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Derives an odd gamma with enough bit transitions (same rule as SplittableRandom).
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
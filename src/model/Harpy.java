@@ -3,6 +3,9 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Harpy Class
@@ -35,7 +38,7 @@ public class Harpy extends Minion {
         this.isInScreen = false;
 
         // Randomize initial horizontal direction (Left or Right)
-        if (Math.random() < 0.5) {
+        if (model.getEnemyRandom().nextBoolean()) {
             this.velX = -this.velX;
         }
 
@@ -92,7 +95,7 @@ public class Harpy extends Minion {
 
     private void throwFeather(){
         // Spawn feather centered horizontally below the Harpy
-        Feather f = new Feather (x + (width - GameConstants.FEATHER_WIDTH)/2, y + height);
+        Feather f = model.acquireFeather(x + (width - GameConstants.FEATHER_WIDTH)/2, y + height);
         model.spawnEnemyProjectile(f);
     }
 
@@ -104,28 +107,48 @@ public class Harpy extends Minion {
         int variance = GameConstants.FEATHER_FIRE_VARIANCE;
 
         // Calculate random modifier: +/- variance
-        int randomVariation = (int)(Math.random() * (variance * 2)) - variance;
+        int randomVariation = (int)(model.getEnemyRandom().nextDouble() * (variance * 2)) - variance;
 
         this.fireTimer = base + randomVariation;
     }
 
+    /**
+     * Flash white if hit recently, otherwise show the normal sprite.
+     */
     @Override
-    public void draw(Graphics g) {
-        BufferedImage imgToDraw = (flashTimer > 0) ? ResourceManager.harpyHitImg : image;
-
-        if (image != null) {
-            // Flip sprite based on horizontal direction
-            if (velX < 0) {
-                // Moving Left
-                g.drawImage(imgToDraw, x, y, width, height, null);
-            } else {
-                // Moving Right (Mirror Image)
-                g.drawImage(imgToDraw, x + width, y, -width, height, null);
-            }
-        } else {
-            // Fallback
-            g.setColor(Color.RED);
-            g.fillRect(x, y, width, height);
-        }
+    public BufferedImage getSprite() {
+        return (flashTimer > 0) ? ResourceManager.harpyHitImg : image;
+    }
+
+    /**
+     * The sprite faces left: it is mirrored when moving right.
+     * The collision mask follows the same direction.
+     */
+    @Override
+    public boolean isFlipped() {
+        return velX >= 0;
+    }
+
+    @Override
+    public Color getFallbackColor() {
+        return Color.RED;
+    }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(velX);
+        out.writeInt(velY);
+        out.writeInt(fireTimer);
+        out.writeBoolean(isInScreen);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        velX = in.readInt();
+        velY = in.readInt();
+        fireTimer = in.readInt();
+        isInScreen = in.readBoolean();
     }
 }
\ No newline at end of file
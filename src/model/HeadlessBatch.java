@@ -0,0 +1,58 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * HeadlessBatch Class
+ *
+ * Runs many independent HeadlessSimulations at the same time, spread over the cores
+ * with a ForkJoinPool (work stealing: a thread that finishes early takes the next run).
+ *
+ * Every run owns its GameModel, so the runs share no mutable state
+ * (the score, the progression, the pools and the broadphases are all per model).
+ * Run i uses the seed firstSeed + i, so a single run of a batch can be repeated alone.
+ */
+public final class HeadlessBatch {
+
+    private HeadlessBatch() {} // Utility class
+
+    /**
+     * Runs the simulations and waits for all of them.
+     * @param runs Number of independent games.
+     * @param steps Fixed steps per game.
+     * @param firstSeed Seed of the first run.
+     * @param broadphase Collision broadphase used by every game.
+     * @param threads Number of worker threads.
+     * @return The finished simulations, in seed order.
+     */
+    public static List<HeadlessSimulation> run(int runs, long steps, long firstSeed,
+                                               Broadphase.Type broadphase, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // 1. Submit one task per run
+            List<ForkJoinTask<HeadlessSimulation>> tasks = new ArrayList<>(runs);
+            for (int i = 0; i < runs; i++) {
+                long seed = firstSeed + i;
+                tasks.add(pool.submit(() -> {
+                    HeadlessSimulation simulation = new HeadlessSimulation(seed);
+                    simulation.getModel().setLogging(false);
+                    simulation.getModel().setBroadphase(broadphase);
+                    simulation.run(steps);
+                    return simulation;
+                }));
+            }
+
+            // 2. Collect the results
+            List<HeadlessSimulation> results = new ArrayList<>(runs);
+            for (ForkJoinTask<HeadlessSimulation> task : tasks) {
+                results.add(task.join());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
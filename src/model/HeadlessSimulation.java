@@ -0,0 +1,186 @@
+package model;
+
+import java.io.IOException;
+
+/**
+ * HeadlessSimulation Class
+ *
+ * Runs a GameModel without window, renderer or game loop: the steps are executed back to back,
+ * as fast as the CPU allows. Used for soak tests, balance sweeps and performance runs.
+ *
+ * The model does not need the images: when ResourceManager.loadImages() was never called,
+ * every sprite is null, the objects collide with their geometric hitboxes
+ * (no pixel-perfect masks) and nothing touches the AWT display.
+ *
+ * The input goes through an InputController, like the keyboard, and comes either from a
+ * ReplayPlayer or from an "autopilot" playing instead of the keyboard:
+ * - Always shooting from the bottom of the field, lined up under the lowest enemy.
+ *   Every AUTOPILOT_TURN_STEPS steps it may instead dodge in a random direction.
+ * - Uses the abilities as soon as they are ready.
+ * - Closes the message boxes and continues from the checkpoint after a Game Over.
+ */
+public class HeadlessSimulation {
+
+    private static final int AUTOPILOT_TURN_STEPS = 30; // Half a second per decision
+    private static final double AUTOPILOT_DODGE_CHANCE = 0.25;
+
+    private final GameModel model;
+    private final InputController input;
+    private final GameRandom autopilot;    // null when playing a replay
+    private final ReplayPlayer replay;     // null when the autopilot plays
+    private ReplayRecorder recorder;       // Optional: records the input of every step
+
+    // --- AUTOPILOT STATE ---
+    private int autopilotHeld;      // Keys held in the previous step
+    private int autopilotDirection; // -1 = left, 0 = still, 1 = right
+
+    // --- STATISTICS ---
+    private long steps;
+    private long elapsedNanos;
+    private int gameOvers;
+    private int maxObjects;
+
+    /**
+     * Creates a game played by the autopilot.
+     * @param seed Seed of the game and of the autopilot decisions: the same seed replays the same run.
+     */
+    public HeadlessSimulation(long seed) {
+        this.model = new GameModel(seed);
+        this.input = new InputController(model);
+        this.autopilot = new GameRandom(~seed); // Separate from the streams of the model
+        this.replay = null;
+    }
+
+    /**
+     * Creates a game that plays back a replay (see ReplayPlayer).
+     */
+    public HeadlessSimulation(ReplayPlayer replay) {
+        this.model = new GameModel(replay.getSeed());
+        this.input = new InputController(model);
+        this.autopilot = null;
+        this.replay = replay;
+    }
+
+    /**
+     * Records the input of the next steps (the caller closes the recorder).
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Jumps to a step of the replay being played (see ReplayPlayer.seek()).
+     * The steps re-simulated after the keyframe are not counted in the statistics.
+     */
+    public void seek(long step) throws IOException {
+        if (replay == null) throw new IllegalStateException("Only a replay can seek");
+        replay.seek(step, model, input);
+    }
+
+    /**
+     * Runs the given number of fixed steps (each one is 1/FPS seconds of game time).
+     * A replay stops earlier if it reaches its end.
+     */
+    public void run(long stepCount) {
+        long start = System.nanoTime();
+
+        for (long i = 0; i < stepCount; i++) {
+            if (replay != null && replay.isFinished()) break;
+
+            // 1. Input of this step (same path as the keyboard)
+            int keys = (replay != null) ? replay.nextInput() : playAutopilot();
+            if (recorder != null) {
+                recorder.record(keys);
+            }
+            input.apply(keys);
+
+            // 2. Fixed step
+            GameState before = model.getState();
+            model.update();
+
+            // 3. Statistics
+            steps++;
+            maxObjects = Math.max(maxObjects, model.getObjects().size());
+            if (model.getState() == GameState.GAMEOVER && before != GameState.GAMEOVER) {
+                gameOvers++;
+            }
+        }
+
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Replaces the keyboard: decides which keys are held / pressed in this step.
+     * @return The input, packed with InputController.pack().
+     */
+    private int playAutopilot() {
+        GameState state = model.getState();
+        int held = 0;
+        int pressed = 0;
+
+        if (state == GameState.TITLE || state == GameState.MESSAGE) {
+            pressed = InputController.SPACE; // Start / close the message (a tap: SPACE is not held)
+        }
+        else if (state == GameState.GAMEOVER) {
+            pressed = InputController.CONTINUE;
+        }
+        else if (state == GameState.PLAYING) {
+            held = InputController.SPACE | InputController.DOWN; // Shoot, stay at the bottom
+
+            Player p = model.getPlayer();
+            if (steps % AUTOPILOT_TURN_STEPS == 0 && autopilot.nextDouble() < AUTOPILOT_DODGE_CHANCE) {
+                autopilotDirection = autopilot.nextInt(3) - 1; // Dodge
+            } else if (steps % AUTOPILOT_TURN_STEPS >= AUTOPILOT_TURN_STEPS / 2) {
+                autopilotDirection = directionToLowestEnemy(p); // Aim (the second half of each decision)
+            }
+            if (autopilotDirection < 0) held |= InputController.LEFT;
+            if (autopilotDirection > 0) held |= InputController.RIGHT;
+
+            if (model.isAbilityUnclocked(1) && model.getAbilityNthTimer(1) == 0) pressed |= InputController.ABILITY1;
+            if (model.isAbilityUnclocked(2) && model.getAbilityNthTimer(2) == 0) pressed |= InputController.ABILITY2;
+        }
+
+        pressed |= held & ~autopilotHeld; // Keys going down are presses
+        autopilotHeld = held;
+        return InputController.pack(held, pressed);
+    }
+
+    /**
+     * @return -1, 0 or 1: the horizontal direction that lines the player up under the lowest enemy.
+     */
+    private int directionToLowestEnemy(Player p) {
+        GameObject target = null;
+        for (GameObject obj : model.getObjects()) {
+            if (obj instanceof HostileEntity && (target == null || obj.getY() > target.getY())) {
+                target = obj;
+            }
+        }
+        if (target == null) return 0;
+
+        int dx = (target.getX() + target.width / 2) - (p.getX() + p.width / 2);
+        if (Math.abs(dx) < GameConstants.PLAYER_SPEED) return 0;
+        return dx > 0 ? 1 : -1;
+    }
+
+    // --- GETTERS ---
+    public GameModel getModel() { return model; }
+    public InputController getInput() { return input; }
+    public long getSteps() { return steps; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public int getGameOvers() { return gameOvers; }
+    public int getMaxObjects() { return maxObjects; }
+
+    /**
+     * @return Simulated steps per real second.
+     */
+    public double getStepsPerSecond() {
+        return elapsedNanos == 0 ? 0 : steps * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("steps=%d (%.1f game minutes) in %.1f ms, %.0f steps/s, score=%d, level=%d, gameOvers=%d, maxObjects=%d",
+                steps, steps / (60.0 * GameConstants.FPS), elapsedNanos / 1e6, getStepsPerSecond(),
+                model.getScore(), model.getCurrentLevelIndex(), gameOvers, maxObjects);
+    }
+}
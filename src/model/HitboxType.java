@@ -0,0 +1,14 @@
+package model;
+
+/**
+ * HitboxType Enum
+ *
+ * Describes the geometry returned by GameObject.getShape().
+ * The GameModel uses it to pick the right intersection formula
+ * instead of building expensive java.awt.geom.Area objects every frame.
+ */
+public enum HitboxType {
+    RECTANGLE, // Axis-aligned rectangle (default for every GameObject)
+    ELLIPSE,   // Axis-aligned ellipse inscribed in the shape bounds (Player, Boulder, Minotaur, Sun)
+    CUSTOM     // Any other Shape: falls back to the Area intersection
+}
@@ -1,6 +1,9 @@
 package model;
 
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * HostileEntity (Abstract)
@@ -50,10 +53,18 @@ public abstract class HostileEntity extends GameObject {
         // Death Check
         if (this.hp <= 0) {
             this.isDead = true;
-            GameModel.addScore(this.scorePoints); // Award points to the global score
+            model.addScore(this.scorePoints); // Award points to the score of this game
         }
     }
 
+    /**
+     * Minions and Bosses share the same layer (they only collide with the Player's side).
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.ENEMY_BODY;
+    }
+
     /**
      * Updates the entity's state.
      * Specifically handles the countdown for the hit-flash effect.
@@ -64,4 +75,20 @@ public abstract class HostileEntity extends GameObject {
             flashTimer--;
         }
     }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(hp);
+        out.writeInt(maxHp);
+        out.writeInt(flashTimer);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        hp = in.readInt();
+        maxHp = in.readInt();
+        flashTimer = in.readInt();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,267 @@
+package model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * InputController Class
+ *
+ * Turns the keys of one step into calls on the GameModel (movement, shooting, abilities, menus).
+ *
+ * The input of a step is two bit masks over the KEYS below (no AWT types, so it also works headless):
+ * - held: keys down at the end of the step.
+ * - pressed: keys that went down during the step (also set again by the keyboard auto-repeat).
+ * Keys released during the step are derived from the previous step.
+ *
+ * Everything that changes the game goes through here, whether the keys come from the keyboard
+ * (GameController), the HeadlessSimulation autopilot or a replay file (ReplayPlayer):
+ * the same seed and the same input masks always reproduce the same game.
+ */
+public class InputController {
+
+    // --- KEYS (bit flags) ---
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int UP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+    public static final int SPACE = 1 << 4;      // Start / Shoot / Close message
+    public static final int ABILITY1 = 1 << 5;
+    public static final int ABILITY2 = 1 << 6;
+    public static final int PAUSE = 1 << 7;
+    public static final int CONTINUE = 1 << 8;   // Game Over / Title: continue from checkpoint
+    public static final int QUIT = 1 << 9;       // Game Over: quit (handled by the caller)
+    public static final int KEY_COUNT = 10;
+    public static final int KEY_MASK = (1 << KEY_COUNT) - 1;
+
+    private final GameModel model;
+    private int held; // Keys held after the last step
+
+    // --- Input State Variables ---
+    // Tracks which keys are currently held down for smooth movement
+    private boolean leftPressed = false;
+    private boolean rightPressed = false;
+    private boolean upPressed = false;
+    private boolean downPressed = false;
+    private boolean quitRequested = false;
+
+    public InputController(GameModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Packs the input of one step into a single int (the format stored in the replays).
+     */
+    public static int pack(int held, int pressed) {
+        return (held & KEY_MASK) | ((pressed & KEY_MASK) << KEY_COUNT);
+    }
+
+    public static int heldOf(int packed) {
+        return packed & KEY_MASK;
+    }
+
+    public static int pressedOf(int packed) {
+        return (packed >>> KEY_COUNT) & KEY_MASK;
+    }
+
+    /**
+     * Applies the input of one step. Call it right before GameModel.update().
+     * @param held Keys down at the end of the step.
+     * @param pressed Keys pressed during the step.
+     */
+    public void apply(int held, int pressed) {
+        int released = (this.held | pressed) & ~held;
+        this.held = held;
+
+        // 1. Presses first (a key pressed and released within the same step is a "tap")
+        for (int key = 1; key <= KEY_MASK; key <<= 1) {
+            if ((pressed & key) != 0) keyPressed(key);
+        }
+
+        // 2. Then releases
+        for (int key = 1; key <= KEY_MASK; key <<= 1) {
+            if ((released & key) != 0) keyReleased(key);
+        }
+    }
+
+    /**
+     * Same as apply(held, pressed), with the value returned by pack().
+     */
+    public void apply(int packed) {
+        apply(heldOf(packed), pressedOf(packed));
+    }
+
+    /**
+     * @return true once QUIT was pressed on the Game Over screen.
+     */
+    public boolean isQuitRequested() {
+        return quitRequested;
+    }
+
+    // --- KEYFRAMES (see Keyframe) ---
+
+    void writeState(DataOutput out) throws IOException {
+        out.writeInt(held);
+        out.writeBoolean(leftPressed);
+        out.writeBoolean(rightPressed);
+        out.writeBoolean(upPressed);
+        out.writeBoolean(downPressed);
+        out.writeBoolean(quitRequested);
+    }
+
+    void readState(DataInput in) throws IOException {
+        held = in.readInt();
+        leftPressed = in.readBoolean();
+        rightPressed = in.readBoolean();
+        upPressed = in.readBoolean();
+        downPressed = in.readBoolean();
+        quitRequested = in.readBoolean();
+    }
+
+    // --- KEY HANDLING ---
+
+    private void keyPressed(int key) {
+        GameState state = model.getState();
+
+        // 1. TITLE SCREEN
+        if (state == GameState.TITLE) {
+            if (key == SPACE) {
+                model.initGame(); // Start Game
+            } else if (key == CONTINUE) {
+                model.continueSavedGame(); // Continue the previous session (if it saved a checkpoint)
+                resetKeyState();
+            }
+        }
+
+        // 2. PLAYING
+        else if (state == GameState.PLAYING) {
+            // Movement
+            if (key == LEFT) leftPressed = true;
+            if (key == RIGHT) rightPressed = true;
+            if (key == UP) upPressed = true;
+            if (key == DOWN) downPressed = true;
+
+            // Shooting
+            if (key == SPACE) {
+                model.setFiring(true);
+            }
+
+            // Pause
+            if (key == PAUSE) {
+                model.setState(GameState.PAUSED);
+                resetKeyState();
+            }
+
+            updatePlayerVelocity();
+
+            // Abilities
+            // Ability 1 (Sun)
+            if (model.isAbilityUnclocked(1) && key == ABILITY1) {
+                model.ability1();
+            }
+
+            // Ability 2 (Lightning)
+            if (model.isAbilityUnclocked(2) && key == ABILITY2) {
+                model.ability2();
+            }
+        }
+
+        // 3. PAUSED
+        else if (state == GameState.PAUSED) {
+            if (key == PAUSE) {
+                model.setState(GameState.PLAYING);
+                resetKeyState();
+            }
+        }
+
+        // 4. MESSAGE (Dialogue)
+        else if (state == GameState.MESSAGE) {
+            if (key == SPACE) {
+                model.resumeGame(); // Close message box
+                resetKeyState();
+            }
+        }
+
+        // 5. GAME OVER
+        else if (state == GameState.GAMEOVER) {
+            if (key == CONTINUE) {
+                // Continue from checkpoint
+                model.continueGame();
+                resetKeyState();
+            } else if (key == QUIT) {
+                quitRequested = true;
+            }
+        }
+    }
+
+    private void keyReleased(int key) {
+        // Update flags
+        if (key == LEFT) leftPressed = false;
+        if (key == RIGHT) rightPressed = false;
+        if (key == UP) upPressed = false;
+        if (key == DOWN) downPressed = false;
+
+        // Stop shooting
+        if (key == SPACE) {
+            model.setFiring(false);
+        }
+
+        // Recalculate velocity if still playing
+        if (model.getState() == GameState.PLAYING) {
+            updatePlayerVelocity();
+        }
+    }
+
+    /**
+     * Updates the player's velocity based on the current state of the movement keys.
+     *
+     * Logic:
+     * 1. Determines the raw direction vector (-1, 0, or 1) for X and Y.
+     * 2. Normalizes the vector if moving diagonally.
+     */
+    private void updatePlayerVelocity() {
+        Player p = model.getPlayer();
+        if (p == null) return;
+
+        double vx = 0;
+        double vy = 0;
+
+        // 1. Determine direction (Additive Logic)
+        // If both Left and Right are pressed, -1 + 1 = 0 (Player stops horizontally)
+        if (leftPressed)  vx -= 1;
+        if (rightPressed) vx += 1;
+
+        if (upPressed)    vy -= 1;
+        if (downPressed)  vy += 1;
+
+        // 2. Normalize Diagonal Movement
+        // If moving along both axes, multiply by approx 0.71 (1 / sqrt(2))
+        // This ensures the total speed remains constant.
+        if (vx != 0 && vy != 0) {
+            vx *= 0.71;
+            vy *= 0.71;
+        }
+
+        // 3. Apply velocity to Player
+        // We pass the normalized double value; Player class handles the speed multiplication.
+        p.setVelX(vx);
+        p.setVelY(vy);
+    }
+
+    /**
+     * Resets all key states to false.
+     * Called when pausing or game over occurs to stop the player from "drifting".
+     */
+    private void resetKeyState() {
+        leftPressed = false;
+        rightPressed = false;
+        upPressed = false;
+        downPressed = false;
+
+        Player p = model.getPlayer();
+        if (p != null) {
+            p.setVelX(0);
+            p.setVelY(0);
+        }
+    }
+}
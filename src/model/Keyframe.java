@@ -0,0 +1,153 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Keyframe Class
+ *
+ * A full copy of the simulation state between two steps, encoded as bytes:
+ * the GameModel (progression, timers, spawners, random streams, every entity)
+ * and the InputController (keys held, movement flags).
+ *
+ * Restoring a Keyframe into a GameModel created with the same seed, then feeding it the
+ * recorded input, continues the game exactly as it was played (see ReplayPlayer.seek()).
+ *
+ * Encoding:
+ * - Every class saves its own fields (GameModel, EnemySpawner, GameRandom and the
+ *   writeState / readState pair of each GameObject subclass).
+ * - This class writes a type tag in front of every entity, so a blank object of the right
+ *   class can be created on restore, and stores the Boulder -> Cyclops reference as an index.
+ * - The sprites are not stored: every object picks them again from its restored state
+ *   (phase, stage, wings...), so a keyframe recorded headless restores fine in the window.
+ */
+public final class Keyframe {
+
+    // --- ENTITY TYPES (tag written before every entity) ---
+    private static final int PLAYER = 0;
+    private static final int ARROW = 1;
+    private static final int FEATHER = 2;
+    private static final int BOULDER = 3;
+    private static final int LIGHTING = 4;
+    private static final int SUN = 5;
+    private static final int HARPY = 6;
+    private static final int CYCLOPS = 7;
+    private static final int MINOTAUR = 8;
+    private static final int APOLLO = 9;
+    private static final int ZEUS = 10;
+
+    private final long step; // Steps played before this state
+    private final byte[] data;
+
+    public Keyframe(long step, byte[] data) {
+        this.step = step;
+        this.data = data;
+    }
+
+    /**
+     * Copies the current state of a game (call it between two steps, on the simulation thread).
+     * @param step Number of steps played so far.
+     */
+    public static Keyframe capture(long step, GameModel model, InputController input) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(model.getSeed());
+            model.writeState(out);
+            input.writeState(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Cannot happen in memory
+        }
+        return new Keyframe(step, bytes.toByteArray());
+    }
+
+    /**
+     * Puts a game back in this state.
+     * @param model A model created with the same seed (any state: everything is replaced).
+     * @param input The InputController of that model.
+     * @throws IOException If the data is corrupted or belongs to another seed
+     *                     (the model is then left in an undefined state).
+     */
+    public void restore(GameModel model, InputController input) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        long seed = in.readLong();
+        if (seed != model.getSeed()) {
+            throw new IOException("Keyframe of another game (seed " + seed + ", expected " + model.getSeed() + ")");
+        }
+        model.readState(in);
+        input.readState(in);
+    }
+
+    public long getStep() { return step; }
+    public byte[] getData() { return data; }
+
+    // --- ENTITIES (used by GameModel.writeState / readState) ---
+
+    static void writeObject(DataOutput out, GameObject obj, GameModel model) throws IOException {
+        int type = typeOf(obj);
+        out.writeByte(type);
+        if (type == BOULDER) {
+            out.writeInt(model.indexOfMinion(((Boulder) obj).getOwner()));
+        }
+        obj.writeState(out);
+    }
+
+    static GameObject readObject(DataInput in, GameModel model) throws IOException {
+        GameObject obj;
+        int type = in.readUnsignedByte();
+        switch (type) {
+            case PLAYER:   obj = new Player(null); break;
+            case ARROW:    obj = model.acquireArrow(0, 0); break;
+            case FEATHER:  obj = model.acquireFeather(0, 0); break;
+            case BOULDER:  obj = readBoulder(in, model); break;
+            case LIGHTING: obj = model.acquireLighting(0, 0, 0, false, false, false); break;
+            case SUN:      obj = new Sun(); break;
+            case HARPY:    obj = new Harpy(0, 0, model); break;
+            case CYCLOPS:  obj = new Cyclops(0, 0, model); break;
+            case MINOTAUR: obj = new Minotaur(0, 0, model); break;
+            case APOLLO:   obj = new Apollo(model); break;
+            case ZEUS:     obj = new Zeus(model); break;
+            default:
+                throw new IOException("Unknown entity type: " + type);
+        }
+        obj.readState(in);
+        obj.refreshHitbox();
+        return obj;
+    }
+
+    /**
+     * A Boulder goes back to its Cyclops (which only throws again once its Boulder is gone).
+     */
+    private static Boulder readBoulder(DataInput in, GameModel model) throws IOException {
+        int ownerIndex = in.readInt();
+        Cyclops owner = null;
+        if (ownerIndex >= 0) {
+            Minion minion = model.getMinion(ownerIndex);
+            if (!(minion instanceof Cyclops)) throw new IOException("Boulder owner is not a Cyclops");
+            owner = (Cyclops) minion;
+        }
+        Boulder b = model.acquireBoulder(0, 0, owner);
+        if (owner != null) owner.setBoulder(b);
+        return b;
+    }
+
+    private static int typeOf(GameObject obj) {
+        if (obj instanceof Player) return PLAYER;
+        if (obj instanceof Arrow) return ARROW;
+        if (obj instanceof Feather) return FEATHER;
+        if (obj instanceof Boulder) return BOULDER;
+        if (obj instanceof Lighting) return LIGHTING;
+        if (obj instanceof Sun) return SUN;
+        if (obj instanceof Harpy) return HARPY;
+        if (obj instanceof Cyclops) return CYCLOPS;
+        if (obj instanceof Minotaur) return MINOTAUR;
+        if (obj instanceof Apollo) return APOLLO;
+        if (obj instanceof Zeus) return ZEUS;
+        throw new IllegalArgumentException("No keyframe type for " + obj.getClass().getName());
+    }
+}
@@ -3,6 +3,9 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Lighting Class
@@ -17,6 +20,7 @@ import java.awt.geom.Ellipse2D;
 public class Lighting extends BossProjectile {
 
     private int velY; // Vertical velocity
+    private boolean secondPhase; // Blue, faster bolt
 
     /**
      * Constructor for Lighting Bolt.
@@ -28,16 +32,34 @@ public class Lighting extends BossProjectile {
      * @param ability2Active Flag to check if this is part of Zeus's Ability2. (only if Zeus is the summoner)
      */
     public Lighting(int summonerX, int summonerY, int ZeusVelX, boolean isSecondPhase, boolean friendly, boolean ability2Active) {
+        this();
+        init(summonerX, summonerY, ZeusVelX, isSecondPhase, friendly, ability2Active);
+    }
+
+    /**
+     * Empty Lighting Bolt, set up later with init() (used by the ProjectilePool).
+     */
+    Lighting() {
         super(0, 0,
                 GameConstants.LIGHTING_WIDTH,
                 GameConstants.LIGHTING_HEIGHT,
-                isSecondPhase ? ResourceManager.lightingImg2 : ResourceManager.lightingImg,
-                friendly ? Alignment.PLAYER : Alignment.ENEMY,
+                null,
+                Alignment.ENEMY,
                 3,
                 1);
+        this.isPenetrating = true;
+    }
 
+    /**
+     * (Re)initializes the Lighting Bolt (same parameters as the constructor).
+     * @return This bolt (to chain with ProjectilePool.acquire()).
+     */
+    public Lighting init(int summonerX, int summonerY, int ZeusVelX, boolean isSecondPhase, boolean friendly, boolean ability2Active) {
+        respawn(0, 0);
+        this.secondPhase = isSecondPhase;
+        this.image = isSecondPhase ? ResourceManager.lightingImg2 : ResourceManager.lightingImg;
+        this.alignment = friendly ? Alignment.PLAYER : Alignment.ENEMY;
         this.isPlayerProjectile = friendly;
-        this.isPenetrating = true;
 
         // Set Speed based on Phase
         velY = (isSecondPhase) ? GameConstants.LIGHTING_SPEED2 : GameConstants.LIGHTING_SPEED1;
@@ -63,6 +85,11 @@ public class Lighting extends BossProjectile {
             }
             this.y = summonerY + height;
         }
+
+        // The spawn position is also the start of the first movement
+        this.prevX = x;
+        this.prevY = y;
+        return this;
     }
 
     @Override
@@ -76,13 +103,31 @@ public class Lighting extends BossProjectile {
         }
     }
 
+    /**
+     * Fast projectile (up to LIGHTING_SPEED2 px per frame): uses swept (continuous) collision.
+     */
     @Override
-    public void draw(Graphics g) {
-        if (image != null) {
-            g.drawImage(image, x, y, width, height, null);
-        } else {
-            g.setColor(Color.YELLOW);
-            g.fillOval(x, y, width, height);
-        }
+    public boolean isSwept() {
+        return true;
+    }
+
+    @Override
+    public Color getFallbackColor() {
+        return Color.YELLOW;
+    }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(velY);
+        out.writeBoolean(secondPhase);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        velY = in.readInt();
+        secondPhase = in.readBoolean();
+        image = secondPhase ? ResourceManager.lightingImg2 : ResourceManager.lightingImg;
     }
 }
\ No newline at end of file
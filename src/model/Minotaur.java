@@ -3,7 +3,11 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.RectangularShape;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 public class Minotaur extends Minion{
 
@@ -20,7 +24,7 @@ public class Minotaur extends Minion{
                 GameConstants.MINOTAUR_HP,
                 GameConstants.MINOTAUR_SCORE_POINTS,
                 model);
-        velX = (Math.random() < 0.5) ? GameConstants.MINOTAUR_VELX : -GameConstants.MINOTAUR_VELX;
+        velX = model.getEnemyRandom().nextBoolean() ? GameConstants.MINOTAUR_VELX : -GameConstants.MINOTAUR_VELX;
     }
 
     @Override
@@ -70,32 +74,58 @@ public class Minotaur extends Minion{
     }
 
     @Override
-    public void draw(Graphics g) {
-        BufferedImage imgToDraw;
-
-        imgToDraw = (flashTimer > 0) ? ResourceManager.minotaurHitImg : image;
-
-        if (imgToDraw != null) {
-            if(velX > 0){
-                // Moving Right
-                g.drawImage(imgToDraw, x, y, width, height, null);
-            } else {
-                // Moving Left
-                g.drawImage(imgToDraw, x + width, y, -width, height, null);
-            }
-        } else {
-            // Fallback
-            g.setColor(Color.BLACK);
-            g.fillRect(x, y, width, height);
-        }
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(velX);
+        out.writeInt(lastY);
+        out.writeBoolean(isAngry);
+        out.writeBoolean(passedScreen);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        velX = in.readInt();
+        lastY = in.readInt();
+        isAngry = in.readBoolean();
+        passedScreen = in.readBoolean();
+        image = isAngry ? ResourceManager.minotaurImg2 : ResourceManager.minotaurImg;
+    }
+
+    /**
+     * Flash white if hit recently, otherwise show the normal sprite.
+     */
+    @Override
+    public BufferedImage getSprite() {
+        return (flashTimer > 0) ? ResourceManager.minotaurHitImg : image;
     }
 
     /**
-     * Override getShape to provide a Circular Hitbox.
+     * The sprite faces right: it is mirrored when moving left.
+     * The collision mask follows the same direction.
      */
     @Override
-    public Shape getShape() {
-        return new Ellipse2D.Float(x, y, width, height);
+    public boolean isFlipped() {
+        return velX <= 0;
+    }
+
+    @Override
+    public Color getFallbackColor() {
+        return Color.BLACK;
+    }
+
+    /**
+     * Override createHitbox to provide a Circular Hitbox.
+     * Used when the sprite has no collision mask.
+     */
+    @Override
+    protected RectangularShape createHitbox() {
+        return new Ellipse2D.Float();
+    }
+
+    @Override
+    public HitboxType getHitboxType() {
+        return HitboxType.ELLIPSE;
     }
 
 }
@@ -0,0 +1,199 @@
+package model;
+
+/**
+ * Narrowphase Class
+ *
+ * Closed-form intersection tests between the hitbox shapes used in the game
+ * (axis-aligned rectangles and axis-aligned ellipses).
+ * All methods work on primitive values only, so they never allocate memory.
+ *
+ * Shapes are always described by their bounding box (x, y, width, height),
+ * exactly like java.awt.geom.Rectangle2D and Ellipse2D.
+ * Shapes that only touch each other on the border do NOT intersect
+ * (same behaviour as an empty Area intersection).
+ *
+ * It is declared 'final' with a private constructor (utility class, like GameConstants).
+ */
+public final class Narrowphase {
+
+    // Max iterations for the ellipse distance root finder (bisection converges well before)
+    private static final int MAX_ROOT_ITERATIONS = 80;
+
+    /**
+     * Tests two hitboxes of any supported type (RECTANGLE or ELLIPSE).
+     * @return true if the interiors of the two shapes overlap.
+     */
+    public static boolean intersects(HitboxType type1, double x1, double y1, double w1, double h1,
+                                     HitboxType type2, double x2, double y2, double w2, double h2) {
+        // Quick Check: bounds must overlap first (also rejects empty shapes)
+        if (!boundsIntersect(x1, y1, w1, h1, x2, y2, w2, h2)) return false;
+
+        if (type1 == HitboxType.RECTANGLE && type2 == HitboxType.RECTANGLE) {
+            return true; // Bounds ARE the shapes
+        }
+        if (type1 == HitboxType.RECTANGLE) {
+            return rectIntersectsEllipse(x1, y1, w1, h1, x2, y2, w2, h2);
+        }
+        if (type2 == HitboxType.RECTANGLE) {
+            return rectIntersectsEllipse(x2, y2, w2, h2, x1, y1, w1, h1);
+        }
+        return ellipseIntersectsEllipse(x1, y1, w1, h1, x2, y2, w2, h2);
+    }
+
+    /**
+     * Rectangle vs Rectangle (same rule as Rectangle2D.intersects).
+     */
+    public static boolean boundsIntersect(double x1, double y1, double w1, double h1,
+                                          double x2, double y2, double w2, double h2) {
+        if (w1 <= 0 || h1 <= 0 || w2 <= 0 || h2 <= 0) return false;
+        return x1 < x2 + w2 && x2 < x1 + w1 && y1 < y2 + h2 && y2 < y1 + h1;
+    }
+
+    /**
+     * Moving Rectangle vs static Rectangle (swept collision, "slab" method).
+     * Rectangle A starts at (ax, ay) and moves by (dx, dy) during the frame.
+     * @return The earliest time of impact in [0, 1] (0 = already overlapping at the start,
+     *         1 = end of the movement), or -1 if the interiors never overlap.
+     */
+    public static double sweepTimeOfImpact(double ax, double ay, double aw, double ah, double dx, double dy,
+                                           double bx, double by, double bw, double bh) {
+        if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) return -1;
+
+        double enter = Double.NEGATIVE_INFINITY;
+        double exit = Double.POSITIVE_INFINITY;
+
+        // X Axis
+        if (dx == 0) {
+            if (!(ax < bx + bw && bx < ax + aw)) return -1; // Never aligned on X
+        } else {
+            double t0 = (bx - (ax + aw)) / dx;
+            double t1 = (bx + bw - ax) / dx;
+            enter = Math.max(enter, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+
+        // Y Axis
+        if (dy == 0) {
+            if (!(ay < by + bh && by < ay + ah)) return -1; // Never aligned on Y
+        } else {
+            double t0 = (by - (ay + ah)) / dy;
+            double t1 = (by + bh - ay) / dy;
+            enter = Math.max(enter, Math.min(t0, t1));
+            exit = Math.min(exit, Math.max(t0, t1));
+        }
+
+        // Overlap happens in the open interval (enter, exit), which must be inside this frame
+        if (enter >= exit || enter >= 1 || exit <= 0) return -1;
+        return Math.max(0, enter);
+    }
+
+    /**
+     * Rectangle vs Ellipse.
+     * Scaling the space by the ellipse radii turns it into a unit circle while the rectangle stays a rectangle,
+     * so we only need the closest point of the rectangle to the ellipse center.
+     */
+    public static boolean rectIntersectsEllipse(double rx, double ry, double rw, double rh,
+                                                double ex, double ey, double ew, double eh) {
+        double radiusX = ew / 2.0;
+        double radiusY = eh / 2.0;
+        double centerX = ex + radiusX;
+        double centerY = ey + radiusY;
+
+        // Closest point of the rectangle to the ellipse center
+        double closestX = Math.max(rx, Math.min(centerX, rx + rw));
+        double closestY = Math.max(ry, Math.min(centerY, ry + rh));
+
+        double dx = (closestX - centerX) / radiusX;
+        double dy = (closestY - centerY) / radiusY;
+        return dx * dx + dy * dy < 1.0;
+    }
+
+    /**
+     * Ellipse vs Ellipse.
+     * The space is scaled so the second ellipse becomes a unit circle:
+     * they intersect if the circle center is inside the first ellipse or closer than 1 to its border.
+     */
+    public static boolean ellipseIntersectsEllipse(double x1, double y1, double w1, double h1,
+                                                   double x2, double y2, double w2, double h2) {
+        double radiusX2 = w2 / 2.0;
+        double radiusY2 = h2 / 2.0;
+
+        // First ellipse in the scaled space (semi-axes a, b)
+        double a = (w1 / 2.0) / radiusX2;
+        double b = (h1 / 2.0) / radiusY2;
+
+        // Circle center relative to the first ellipse center (first quadrant, thanks to symmetry)
+        double px = Math.abs((x2 + radiusX2) - (x1 + w1 / 2.0)) / radiusX2;
+        double py = Math.abs((y2 + radiusY2) - (y1 + h1 / 2.0)) / radiusY2;
+
+        // Center inside the ellipse
+        if ((px * px) / (a * a) + (py * py) / (b * b) <= 1.0) return true;
+
+        // The distance algorithm needs the major axis on X
+        if (a >= b) {
+            return distancePointEllipse(a, b, px, py) < 1.0;
+        }
+        return distancePointEllipse(b, a, py, px) < 1.0;
+    }
+
+    /**
+     * Distance from a point (y0, y1) in the first quadrant to the ellipse (x/e0)^2 + (y/e1)^2 = 1, with e0 >= e1.
+     * Based on the robust bisection method by David Eberly ("Distance from a Point to an Ellipse").
+     */
+    private static double distancePointEllipse(double e0, double e1, double y0, double y1) {
+        if (y1 > 0) {
+            if (y0 > 0) {
+                double z0 = y0 / e0;
+                double z1 = y1 / e1;
+                double g = z0 * z0 + z1 * z1 - 1;
+                if (g == 0) return 0;
+
+                double r0 = (e0 / e1) * (e0 / e1);
+                double sbar = getRoot(r0, z0, z1, g);
+                double x0 = r0 * y0 / (sbar + r0);
+                double x1 = y1 / (sbar + 1);
+                return Math.hypot(x0 - y0, x1 - y1);
+            }
+            // Point on the minor axis
+            return Math.abs(y1 - e1);
+        }
+
+        // Point on the major axis
+        double numer0 = e0 * y0;
+        double denom0 = e0 * e0 - e1 * e1;
+        if (numer0 < denom0) {
+            double xde0 = numer0 / denom0;
+            double x0 = e0 * xde0;
+            double x1 = e1 * Math.sqrt(1 - xde0 * xde0);
+            return Math.hypot(x0 - y0, x1);
+        }
+        return Math.abs(y0 - e0);
+    }
+
+    /**
+     * Bisection on the parameter of the closest point equation (see distancePointEllipse).
+     */
+    private static double getRoot(double r0, double z0, double z1, double g) {
+        double n0 = r0 * z0;
+        double s0 = z1 - 1;
+        double s1 = (g < 0) ? 0 : Math.hypot(n0, z1) - 1;
+        double s = 0;
+
+        for (int i = 0; i < MAX_ROOT_ITERATIONS; i++) {
+            s = (s0 + s1) / 2;
+            if (s == s0 || s == s1) break;
+
+            double ratio0 = n0 / (s + r0);
+            double ratio1 = z1 / (s + 1);
+            g = ratio0 * ratio0 + ratio1 * ratio1 - 1;
+
+            if (g > 0) s0 = s;
+            else if (g < 0) s1 = s;
+            else break;
+        }
+        return s;
+    }
+
+    // Private constructor prevents instantiation
+    private Narrowphase() {}
+}
@@ -2,7 +2,11 @@ package model;
 
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.RectangularShape;
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Player Class
@@ -57,31 +61,32 @@ public class Player extends GameObject {
     }
 
     @Override
-    public void draw(Graphics g) {
-        if(image != null){
-            g.drawImage(image, x, y, width, height, null);
-        }
-        else{
-            // Fallback: Blue square if image fails
-            g.setColor(Color.BLUE);
-            g.fillRect(x, y, width, height);
-        }
+    public Color getFallbackColor() {
+        return Color.BLUE;
     }
 
     /**
-     * Override getShape to provide a smaller, precise hitbox.
+     * The Player uses an elliptical hitbox.
+     */
+    @Override
+    protected RectangularShape createHitbox() {
+        return new Ellipse2D.Float();
+    }
+
+    /**
+     * Override updateHitbox to provide a smaller, precise hitbox.
      *
      * Instead of using the full sprite rectangle (which often includes transparent pixels),
      * we shrink the hitbox by 30% width and 20% height.
      * This "generous" hitbox makes the game feel fairer to the player.
      */
     @Override
-    public Shape getShape() {
+    protected void updateHitbox(RectangularShape hitbox) {
         float paddingX = width * 0.3f;  // Remove 30% from width
         float paddingY = height * 0.2f; // Remove 20% from height
 
-        // Create a centered ellipse within the sprite bounds
-        return new Ellipse2D.Float(
+        // Center the ellipse within the sprite bounds
+        hitbox.setFrame(
                 x + paddingX / 2,     // Offset X inward
                 y + paddingY / 2,     // Offset Y inward
                 width - paddingX,     // Reduced width
@@ -89,6 +94,16 @@ public class Player extends GameObject {
         );
     }
 
+    @Override
+    public HitboxType getHitboxType() {
+        return HitboxType.ELLIPSE;
+    }
+
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PLAYER_BODY;
+    }
+
     // --- Input Handling Methods ---
     // Called by the Controller (GamePanel) to update velocity
 
@@ -113,4 +128,18 @@ public class Player extends GameObject {
     public void setVelY(double normalizedY) {
         this.velY = (int) Math.round(normalizedY * speed);
     }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeInt(velX);
+        out.writeInt(velY);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        velX = in.readInt();
+        velY = in.readInt();
+    }
 }
\ No newline at end of file
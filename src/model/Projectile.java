@@ -1,6 +1,9 @@
 package model;
 
 import java.awt.image.BufferedImage;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Projectile (Abstract)
@@ -25,6 +28,10 @@ public abstract class Projectile extends GameObject {
     // Default is false (standard bullet behavior).
     protected boolean isPenetrating;
 
+    // --- POOLING (see ProjectilePool) ---
+    ProjectilePool<?> pool; // Pool that recycles this projectile (null if not pooled)
+    boolean isFree;         // true while waiting in the pool
+
     /**
      * Constructor for the Projectile class.
      * Passes the first 5 parameters to GameOjbect +:
@@ -41,6 +48,37 @@ public abstract class Projectile extends GameObject {
         this.isPenetrating = false; // Default: destroys itself on impact
     }
 
+    /**
+     * The layer depends on the team and on the Power Level:
+     * Ultimate (Level 3) enemy projectiles belong to the Bosses.
+     */
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        if (alignment == Alignment.PLAYER) return CollisionLayer.PLAYER_PROJECTILE;
+        return (powerLevel >= 3) ? CollisionLayer.BOSS_PROJECTILE : CollisionLayer.ENEMY_PROJECTILE;
+    }
+
+    /**
+     * Called by the ProjectilePool when this projectile goes back to it.
+     * Subclasses drop here the references to other objects, so a free projectile keeps nothing alive.
+     */
+    protected void onRelease() {
+    }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeByte(alignment.ordinal());
+        out.writeInt(damage);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        alignment = Alignment.values()[in.readUnsignedByte()];
+        damage = in.readInt();
+    }
+
     // Getters for collision logic
     public Alignment getAlignment() { return alignment; }
     public int getPowerLevel() { return powerLevel; }
@@ -0,0 +1,101 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * ProjectilePool Class
+ *
+ * Recycles the projectiles of one type (e.g. all the Arrows) instead of creating a new object
+ * for every shot and leaving the old one to the Garbage Collector.
+ *
+ * Lifecycle (driven by the GameModel):
+ * 1. acquire(): takes a free projectile (or creates one if the pool is empty).
+ *    The caller resets it with the init(...) method of its class.
+ * 2. The projectile lives in the GameModel buckets like any other object.
+ * 3. release(): when the GameModel removes it (dead or cleared), it goes back to the pool
+ *    (onRelease() clears its references, e.g. the Cyclops that threw a Boulder).
+ *
+ * Statistics (useful to size the cap of each pool):
+ * - High-Water Mark: the most projectiles of this type alive at the same time.
+ * - Created / Discarded: objects allocated, and objects dropped because the pool was full.
+ */
+public class ProjectilePool<T extends Projectile> {
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final int cap;            // Max number of free projectiles kept for reuse
+    private final ArrayList<T> free;
+
+    // --- STATISTICS ---
+    private int inUse;
+    private int highWaterMark;
+    private int created;
+    private int discarded;
+
+    /**
+     * Constructor.
+     * @param name Name shown in the statistics (e.g. "Arrow").
+     * @param factory Creates an empty projectile when no free one is available.
+     * @param cap Max number of free projectiles kept (the extra ones are left to the GC).
+     */
+    public ProjectilePool(String name, Supplier<T> factory, int cap) {
+        this.name = name;
+        this.factory = factory;
+        this.cap = cap;
+        this.free = new ArrayList<>(cap);
+    }
+
+    /**
+     * Takes a projectile out of the pool. It must be reset with init(...) before use.
+     */
+    public T acquire() {
+        T p;
+        if (free.isEmpty()) {
+            p = factory.get();
+            p.pool = this;
+            created++;
+        } else {
+            p = free.remove(free.size() - 1);
+        }
+        p.isFree = false;
+
+        inUse++;
+        if (inUse > highWaterMark) highWaterMark = inUse;
+        return p;
+    }
+
+    /**
+     * Gives a projectile back to the pool (ignored if it is already free).
+     */
+    @SuppressWarnings("unchecked")
+    void release(Projectile p) {
+        if (p.pool != this || p.isFree) return;
+        p.isFree = true;
+        p.onRelease();
+        inUse--;
+
+        if (free.size() < cap) {
+            free.add((T) p);
+        } else {
+            p.pool = null; // Forgotten: the GC will collect it
+            discarded++;
+        }
+    }
+
+    // --- STATISTICS GETTERS ---
+
+    public String getName() { return name; }
+    public int getCap() { return cap; }
+    public int getInUse() { return inUse; }
+    public int getFreeCount() { return free.size(); }
+    public int getHighWaterMark() { return highWaterMark; }
+    public int getCreated() { return created; }
+    public int getDiscarded() { return discarded; }
+
+    @Override
+    public String toString() {
+        return name + " pool: inUse=" + inUse + ", free=" + free.size() + "/" + cap
+                + ", highWaterMark=" + highWaterMark + ", created=" + created + ", discarded=" + discarded;
+    }
+}
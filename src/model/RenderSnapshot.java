@@ -0,0 +1,163 @@
+package model;
+
+import view.ResourceManager;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RenderSnapshot Class
+ *
+ * A compact copy of everything the View needs to draw one frame, written by the simulation thread
+ * at the end of every step and handed to the renderer through a TripleBuffer.
+ * The renderer never touches the live GameObjects, so it needs no lock.
+ *
+ * Content:
+ * - Sprites: one entry per object in drawing order, stored in parallel arrays
+ *   (sprite id, drawing rectangle, movement of the last step, flags). The hit flash is already
+ *   resolved into the sprite id (white silhouette), the direction into the FLIPPED flag.
+ * - Background: sprite id, scroll position and speed.
+ * - HUD: game state, score, lives, stage text, ability slots, message lines,
+ *   stage of the saved checkpoint (title screen).
+ * - Step time: System.nanoTime() of the step, used by the renderer to interpolate.
+ *
+ * The arrays only grow, so once the game is warmed up filling a snapshot allocates nothing.
+ * Only the GameModel writes it (package-private setters); once published it is read-only.
+ */
+public class RenderSnapshot {
+
+    // --- SPRITE FLAGS ---
+    public static final int FLIPPED = 1;  // Drawn mirrored horizontally
+    public static final int OVAL = 2;     // Fallback shape is an oval (round hitbox)
+    public static final int BLINK = 4;    // Invincible player: the View makes it flicker
+
+    // --- SPRITES (parallel arrays, [0, count) in drawing order) ---
+    private int count;
+    private int[] spriteId = new int[64];
+    private int[] drawX = new int[64];
+    private int[] drawY = new int[64];
+    private int[] drawWidth = new int[64];
+    private int[] drawHeight = new int[64];
+    private int[] moveX = new int[64];    // x - prevX (for the interpolation)
+    private int[] moveY = new int[64];
+    private int[] flags = new int[64];
+    private Color[] fallbackColor = new Color[64];
+
+    // --- BACKGROUND ---
+    private int backgroundSprite = -1;
+    private double backgroundY;
+    private double backgroundSpeed;
+
+    // --- HUD ---
+    private GameState state;      // null until the first step is published
+    private int score;
+    private int lives;
+    private String stageText = "";
+    private final boolean[] abilityUnlocked = new boolean[3];
+    private final int[] abilityTimer = new int[3];
+    private String[] messageLines;
+    private int savedStage;       // Stage of the saved checkpoint (0 = none)
+
+    private long stepTime;
+
+    // --- WRITING (GameModel only) ---
+
+    void clear(long stepTime) {
+        this.stepTime = stepTime;
+        Arrays.fill(fallbackColor, 0, count, null);
+        count = 0;
+    }
+
+    void addSprites(List<? extends GameObject> objects, GameObject blinking) {
+        for (int i = 0; i < objects.size(); i++) {
+            addSprite(objects.get(i), objects.get(i) == blinking);
+        }
+    }
+
+    void addSprite(GameObject obj, boolean blink) {
+        if (count == spriteId.length) grow();
+
+        int i = count++;
+        spriteId[i] = ResourceManager.getSpriteId(obj.getSprite());
+        drawX[i] = obj.getDrawX();
+        drawY[i] = obj.getDrawY();
+        drawWidth[i] = obj.getDrawWidth();
+        drawHeight[i] = obj.getDrawHeight();
+        moveX[i] = obj.getX() - obj.getPrevX();
+        moveY[i] = obj.getY() - obj.getPrevY();
+        flags[i] = (obj.isFlipped() ? FLIPPED : 0)
+                | (obj.getHitboxType() == HitboxType.ELLIPSE ? OVAL : 0)
+                | (blink ? BLINK : 0);
+        fallbackColor[i] = obj.getFallbackColor();
+    }
+
+    void setBackground(Background background) {
+        if (background == null) {
+            backgroundSprite = -1;
+            return;
+        }
+        backgroundSprite = ResourceManager.getSpriteId(background.getImage());
+        backgroundY = background.getY();
+        backgroundSpeed = background.getSpeed();
+    }
+
+    void setHud(GameState state, int score, int lives, String stageText, String[] messageLines) {
+        this.state = state;
+        this.score = score;
+        this.lives = lives;
+        this.stageText = stageText;
+        this.messageLines = messageLines;
+    }
+
+    void setAbility(int n, boolean unlocked, int timer) {
+        abilityUnlocked[n - 1] = unlocked;
+        abilityTimer[n - 1] = timer;
+    }
+
+    void setSavedStage(int savedStage) {
+        this.savedStage = savedStage;
+    }
+
+    private void grow() {
+        int newSize = spriteId.length * 2;
+        spriteId = Arrays.copyOf(spriteId, newSize);
+        drawX = Arrays.copyOf(drawX, newSize);
+        drawY = Arrays.copyOf(drawY, newSize);
+        drawWidth = Arrays.copyOf(drawWidth, newSize);
+        drawHeight = Arrays.copyOf(drawHeight, newSize);
+        moveX = Arrays.copyOf(moveX, newSize);
+        moveY = Arrays.copyOf(moveY, newSize);
+        flags = Arrays.copyOf(flags, newSize);
+        fallbackColor = Arrays.copyOf(fallbackColor, newSize);
+    }
+
+    // --- SPRITE GETTERS (index in [0, getCount())) ---
+    public int getCount() { return count; }
+    public int getSpriteId(int i) { return spriteId[i]; }
+    public int getDrawX(int i) { return drawX[i]; }
+    public int getDrawY(int i) { return drawY[i]; }
+    public int getDrawWidth(int i) { return drawWidth[i]; }
+    public int getDrawHeight(int i) { return drawHeight[i]; }
+    public int getMoveX(int i) { return moveX[i]; }
+    public int getMoveY(int i) { return moveY[i]; }
+    public boolean hasFlag(int i, int flag) { return (flags[i] & flag) != 0; }
+    public Color getFallbackColor(int i) { return fallbackColor[i]; }
+
+    // --- BACKGROUND GETTERS ---
+    public int getBackgroundSprite() { return backgroundSprite; }
+    public double getBackgroundY() { return backgroundY; }
+    public double getBackgroundSpeed() { return backgroundSpeed; }
+
+    // --- HUD GETTERS ---
+    public GameState getState() { return state; }
+    public int getScore() { return score; }
+    public int getLives() { return lives; }
+    public String getStageText() { return stageText; }
+    public boolean isAbilityUnlocked(int n) { return abilityUnlocked[n - 1]; }
+    public int getAbilityTimer(int n) { return abilityTimer[n - 1]; }
+    public String[] getMessageLines() { return messageLines; }
+    public int getSavedStage() { return savedStage; }
+
+    public long getStepTime() { return stepTime; }
+}
@@ -0,0 +1,61 @@
+package model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * ReplayFormat Class
+ *
+ * Layout of a replay file (written by ReplayRecorder, read by ReplayPlayer):
+ *
+ *   int    MAGIC ("GLRP")
+ *   short  VERSION
+ *   long   seed of the GameModel
+ *   int    keyframe interval in steps                        (version 2)
+ *   records:
+ *     [varint steps > 0][varint input]                       run: same input (InputController.pack) for 'steps' steps
+ *     [varint 0][byte KEYFRAME][long step][int size][bytes]  Keyframe of the state after 'step' steps  (version 2)
+ *     [varint 0][byte END]                                   end of the records (version 1: the varint 0 alone)
+ *   index (version 2):
+ *     int count, then count x [long step][long file offset of the keyframe's 'step' field]
+ *
+ * Version 3 has the same layout; only the keyframe contents changed (model-wide spawn order, see SpawnOrder),
+ * so version 2 files cannot be restored anymore. Version 1 files (input only) are still played.
+ *
+ * Run-length encoding fits the input very well: the keys change a few times per second,
+ * so a step costs a fraction of a byte (10 minutes of play are typically a few KB).
+ * Varints use 7 bits per byte, the high bit tells if another byte follows.
+ *
+ * The keyframes (every REPLAY_KEYFRAME_INTERVAL steps, starting at step 0) make seeking cheap:
+ * the index gives the keyframe before any step directly, and only the steps after it are re-simulated.
+ */
+public final class ReplayFormat {
+
+    public static final int MAGIC = 0x474C5250; // "GLRP"
+    public static final short VERSION = 3;
+
+    // --- RECORD TYPES (after a varint 0) ---
+    static final int END = 0;
+    static final int KEYFRAME = 1;
+
+    private ReplayFormat() {} // Utility class
+
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,189 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * ReplayPlayer Class
+ *
+ * Reads a replay file (see ReplayFormat) and hands out the recorded input step by step.
+ * Feeding it to an InputController of a GameModel created with getSeed() replays the run exactly,
+ * headless at full speed (HeadlessSimulation) or in the window at normal speed (GameController).
+ *
+ * The runs and the keyframe index are small, so they are loaded in memory.
+ * The keyframes stay in the file and are read on demand by seek().
+ */
+public class ReplayPlayer {
+
+    private final Path file;
+    private final long seed;
+    private int keyframeInterval; // 0 if the file has no keyframes (version 1)
+    private int[] runInputs = new int[64];
+    private int[] runLengths = new int[64];
+    private long[] runStarts = new long[64]; // First step of each run
+    private int runCount;
+    private long totalSteps;
+
+    // --- KEYFRAME INDEX ---
+    private long[] keyframeSteps = new long[0];
+    private long[] keyframeOffsets = new long[0];
+
+    // --- PLAYBACK CURSOR ---
+    private int run;        // Current run
+    private int stepInRun;  // Steps already played from the current run
+    private long step;      // Steps already played in total
+
+    /**
+     * Loads a replay file.
+     * @throws IOException If the file cannot be read or is not a replay.
+     */
+    public ReplayPlayer(Path file) throws IOException {
+        this.file = file;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != ReplayFormat.MAGIC) {
+                throw new IOException("Not a replay file: " + file);
+            }
+            short version = in.readShort();
+            if (version != 1 && version != ReplayFormat.VERSION) {
+                throw new IOException("Unsupported replay version " + version + ": " + file);
+            }
+            seed = in.readLong();
+            if (version >= 2) {
+                keyframeInterval = in.readInt();
+            }
+
+            // 1. Runs (the keyframes in between are skipped)
+            while (true) {
+                int length = ReplayFormat.readVarInt(in);
+                if (length > 0) {
+                    addRun(length, ReplayFormat.readVarInt(in));
+                } else if (version == 1 || in.readUnsignedByte() == ReplayFormat.END) {
+                    break;
+                } else {
+                    in.readLong(); // Step of the keyframe (also in the index)
+                    in.skipNBytes(in.readInt());
+                }
+            }
+
+            // 2. Keyframe index
+            if (version >= 2) {
+                int count = in.readInt();
+                keyframeSteps = new long[count];
+                keyframeOffsets = new long[count];
+                for (int i = 0; i < count; i++) {
+                    keyframeSteps[i] = in.readLong();
+                    keyframeOffsets[i] = in.readLong();
+                }
+            }
+        }
+    }
+
+    private void addRun(int length, int input) {
+        if (runCount == runInputs.length) {
+            runInputs = Arrays.copyOf(runInputs, runCount * 2);
+            runLengths = Arrays.copyOf(runLengths, runCount * 2);
+            runStarts = Arrays.copyOf(runStarts, runCount * 2);
+        }
+        runStarts[runCount] = totalSteps;
+        runLengths[runCount] = length;
+        runInputs[runCount] = input;
+        runCount++;
+        totalSteps += length;
+    }
+
+    /**
+     * @return The input of the next step (InputController.pack format), or 0 (no keys) after the end.
+     */
+    public int nextInput() {
+        if (run >= runCount) return 0;
+
+        int input = runInputs[run];
+        step++;
+        if (++stepInRun == runLengths[run]) {
+            run++;
+            stepInRun = 0;
+        }
+        return input;
+    }
+
+    public boolean isFinished() {
+        return run >= runCount;
+    }
+
+    // --- SEEKING ---
+
+    /**
+     * Moves a game to the given step of this replay:
+     * 1. Restores the last keyframe at or before the target (unless simply playing on is shorter).
+     * 2. Re-simulates the few remaining steps with the recorded input.
+     * @param target Step to reach (clamped to the end of the replay).
+     * @param model The game driven by this replay (created with getSeed()).
+     * @param input Its InputController.
+     * @throws IOException If the keyframe cannot be read, or if seeking backwards in a replay without keyframes.
+     */
+    public void seek(long target, GameModel model, InputController input) throws IOException {
+        target = Math.min(target, totalSteps);
+
+        // 1. Jump to the nearest keyframe
+        int k = findKeyframe(target);
+        if (k >= 0 && (target < step || keyframeSteps[k] > step)) {
+            readKeyframe(k).restore(model, input);
+            moveTo(keyframeSteps[k]);
+        } else if (target < step) {
+            throw new IOException("Cannot seek back to step " + target + ": the replay has no keyframes");
+        }
+
+        // 2. Re-simulate up to the target
+        while (step < target) {
+            input.apply(nextInput());
+            model.update();
+        }
+    }
+
+    /**
+     * @return Index of the last keyframe at or before the given step (-1 if none).
+     *         Keyframes are evenly spaced, so this is a direct lookup.
+     */
+    private int findKeyframe(long target) {
+        if (keyframeSteps.length == 0) return -1;
+        int k = (int) Math.min(target / keyframeInterval, keyframeSteps.length - 1);
+        while (k >= 0 && keyframeSteps[k] > target) k--; // Only if the index is not evenly spaced
+        return k;
+    }
+
+    private Keyframe readKeyframe(int k) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            raf.seek(keyframeOffsets[k]);
+            long keyframeStep = raf.readLong();
+            byte[] data = new byte[raf.readInt()];
+            raf.readFully(data);
+            return new Keyframe(keyframeStep, data);
+        }
+    }
+
+    /**
+     * Places the playback cursor at the given step (binary search on the runs).
+     */
+    private void moveTo(long target) {
+        step = target;
+        if (target >= totalSteps) {
+            run = runCount;
+            stepInRun = 0;
+            return;
+        }
+        int r = Arrays.binarySearch(runStarts, 0, runCount, target);
+        if (r < 0) r = -r - 2; // The run starting before the target
+        run = r;
+        stepInRun = (int) (target - runStarts[r]);
+    }
+
+    public long getSeed() { return seed; }
+    public long getTotalSteps() { return totalSteps; }
+    public long getStep() { return step; }
+    public int getKeyframeCount() { return keyframeSteps.length; }
+}
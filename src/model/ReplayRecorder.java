@@ -0,0 +1,136 @@
+package model;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * ReplayRecorder Class
+ *
+ * Writes the input of every step to a replay file (see ReplayFormat).
+ * Identical consecutive steps are merged into one run, which is written when the input changes.
+ * Every REPLAY_KEYFRAME_INTERVAL steps a Keyframe of the game is written as well,
+ * and their index is appended when the file is closed.
+ *
+ * The methods are synchronized so close() can be called from another thread
+ * (e.g. a shutdown hook) while the simulation thread is still recording.
+ */
+public class ReplayRecorder implements Closeable {
+
+    private final DataOutputStream out;
+    private final GameModel model;
+    private final InputController inputController;
+    private final int keyframeInterval;
+    private int runInput;      // Input of the current run
+    private int runLength;     // Steps in the current run (0 = none yet)
+    private long steps;
+    private boolean closed;
+
+    // --- KEYFRAME INDEX (written by close()) ---
+    private long[] keyframeSteps = new long[16];
+    private long[] keyframeOffsets = new long[16];
+    private int keyframeCount;
+
+    /**
+     * Creates the file and writes the header.
+     * @param model The game being recorded, not started yet (its seed goes in the header).
+     * @param input The InputController the recorded input is applied to.
+     */
+    public ReplayRecorder(Path file, GameModel model, InputController input) throws IOException {
+        this.model = model;
+        this.inputController = input;
+        this.keyframeInterval = GameConstants.REPLAY_KEYFRAME_INTERVAL;
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.writeInt(ReplayFormat.MAGIC);
+        out.writeShort(ReplayFormat.VERSION);
+        out.writeLong(model.getSeed());
+        out.writeInt(keyframeInterval);
+    }
+
+    /**
+     * Records the input of one step.
+     * Must be called on the simulation thread, right before the input is applied
+     * (the keyframes copy the state the step starts from).
+     * @param input The value of InputController.pack(held, pressed).
+     */
+    public synchronized void record(int input) {
+        if (closed) return;
+        if (steps % keyframeInterval == 0) {
+            writeKeyframe();
+        }
+        steps++;
+
+        if (runLength > 0 && input == runInput) {
+            runLength++;
+            return;
+        }
+        flushRun();
+        runInput = input;
+        runLength = 1;
+    }
+
+    public synchronized long getSteps() {
+        return steps;
+    }
+
+    /**
+     * Writes the last run, the end marker and the keyframe index.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        flushRun();
+        ReplayFormat.writeVarInt(out, 0);
+        out.writeByte(ReplayFormat.END);
+
+        out.writeInt(keyframeCount);
+        for (int i = 0; i < keyframeCount; i++) {
+            out.writeLong(keyframeSteps[i]);
+            out.writeLong(keyframeOffsets[i]);
+        }
+        out.close();
+    }
+
+    private void flushRun() {
+        if (runLength == 0) return;
+        try {
+            ReplayFormat.writeVarInt(out, runLength);
+            ReplayFormat.writeVarInt(out, runInput);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        runLength = 0;
+    }
+
+    /**
+     * Writes a Keyframe of the current state (the runs before it are written first).
+     */
+    private void writeKeyframe() {
+        byte[] data = Keyframe.capture(steps, model, inputController).getData();
+        flushRun();
+        try {
+            ReplayFormat.writeVarInt(out, 0);
+            out.writeByte(ReplayFormat.KEYFRAME);
+            long offset = out.size();
+            out.writeLong(steps);
+            out.writeInt(data.length);
+            out.write(data);
+
+            if (keyframeCount == keyframeSteps.length) {
+                keyframeSteps = Arrays.copyOf(keyframeSteps, keyframeCount * 2);
+                keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeCount * 2);
+            }
+            keyframeSteps[keyframeCount] = steps;
+            keyframeOffsets[keyframeCount] = offset;
+            keyframeCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
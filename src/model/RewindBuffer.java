@@ -0,0 +1,216 @@
+package model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * RewindBuffer Class
+ *
+ * Keeps the last seconds of play in memory, so the game can be scrubbed back
+ * (practice mode, debugging boss patterns).
+ *
+ * Every 'interval' steps a Keyframe of the game is added to a ring of 'capacity' snapshots;
+ * the oldest one is dropped when the ring is full.
+ *
+ * Delta compression (consecutive snapshots are almost identical):
+ * - Only the newest snapshot is kept whole.
+ * - Every older one is stored as the XOR against the next (newer) one, with the runs of zero
+ *   bytes (unchanged fields) run-length encoded: [varint zeros][varint length][length bytes]...
+ * - Rewinding walks back from the newest snapshot applying the deltas, and dropping the
+ *   oldest snapshot never breaks a chain (nobody depends on it).
+ *
+ * Not thread-safe: used by the simulation thread only.
+ */
+public class RewindBuffer {
+
+    private final int interval;
+    private final byte[][] deltas; // Ring: deltas[i] rebuilds snapshot i from snapshot i + 1 (null for the newest)
+    private final long[] ticks;    // Ring: tick of each snapshot
+    private int head;              // Slot of the oldest snapshot
+    private int count;
+    private byte[] newest;         // The newest snapshot, whole
+    private long tick;             // Steps recorded so far (the current position)
+
+    /**
+     * @param capacity Max number of snapshots kept.
+     * @param interval Steps between two snapshots.
+     */
+    public RewindBuffer(int capacity, int interval) {
+        this.interval = interval;
+        this.deltas = new byte[capacity][];
+        this.ticks = new long[capacity];
+    }
+
+    /**
+     * A buffer holding the last REWIND_SECONDS of play.
+     */
+    public RewindBuffer() {
+        this(GameConstants.REWIND_SECONDS * GameConstants.FPS / GameConstants.REWIND_INTERVAL,
+                GameConstants.REWIND_INTERVAL);
+    }
+
+    /**
+     * Counts one step of play. Call it after every GameModel.update() to be rewindable;
+     * a snapshot is taken every 'interval' steps.
+     */
+    public void tick(GameModel model, InputController input) {
+        tick++;
+        if (tick % interval == 0) {
+            push(tick, Keyframe.capture(tick, model, input).getData());
+        }
+    }
+
+    /**
+     * Goes back to the newest snapshot taken before the current position.
+     * The snapshots after it are dropped (playing on starts a new timeline).
+     * @return false if there is nothing older to go back to.
+     */
+    public boolean stepBack(GameModel model, InputController input) {
+        return rewindTo(tick - 1, model, input) >= 0;
+    }
+
+    /**
+     * Restores the newest snapshot at or before the given tick and drops the ones after it.
+     * @return The tick restored, or -1 if the buffer has no snapshot that old.
+     */
+    public long rewindTo(long target, GameModel model, InputController input) {
+        // 1. Newest snapshot at or before the target
+        int index = count - 1;
+        while (index >= 0 && ticks[slot(index)] > target) index--;
+        if (index < 0) return -1;
+
+        // 2. Rebuild it from the newest one
+        byte[] data = newest;
+        for (int i = count - 2; i >= index; i--) {
+            data = applyDelta(data, deltas[slot(i)]);
+        }
+        try {
+            new Keyframe(ticks[slot(index)], data).restore(model, input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Written by this process: cannot be corrupted
+        }
+
+        // 3. It becomes the newest snapshot
+        for (int i = index; i < count; i++) {
+            deltas[slot(i)] = null;
+        }
+        count = index + 1;
+        newest = data;
+        tick = ticks[slot(index)];
+        return tick;
+    }
+
+    // --- STATISTICS ---
+    public int size() { return count; }
+    public long getTick() { return tick; }
+    public long getOldestTick() { return count == 0 ? -1 : ticks[head]; }
+
+    /**
+     * @return Bytes used by the snapshots (the newest one plus the deltas).
+     */
+    public long getMemoryBytes() {
+        long bytes = (newest == null) ? 0 : newest.length;
+        for (int i = 0; i < count - 1; i++) {
+            bytes += deltas[slot(i)].length;
+        }
+        return bytes;
+    }
+
+    // --- RING ---
+
+    private int slot(int index) {
+        return (head + index) % deltas.length;
+    }
+
+    private void push(long snapshotTick, byte[] data) {
+        // 1. The previous newest snapshot becomes a delta against the new one
+        if (count > 0) {
+            deltas[slot(count - 1)] = encodeDelta(data, newest);
+        }
+
+        // 2. Drop the oldest snapshot if the ring is full
+        if (count == deltas.length) {
+            deltas[head] = null;
+            head = (head + 1) % deltas.length;
+            count--;
+        }
+
+        ticks[slot(count)] = snapshotTick;
+        count++;
+        newest = data;
+    }
+
+    // --- DELTA CODEC ---
+
+    /**
+     * Encodes 'target' as the XOR against 'base' (the missing bytes of the shorter array count as 0).
+     * Layout: [varint target length] then [varint zeros][varint length][length XOR bytes]... until the end.
+     */
+    static byte[] encodeDelta(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        writeVarInt(out, target.length);
+
+        int i = 0;
+        while (i < target.length) {
+            // 1. Unchanged bytes
+            int start = i;
+            while (i < target.length && xor(base, target, i) == 0) i++;
+            if (i == target.length) break; // Only zeros left: implied by the length
+            int zeros = i - start;
+
+            // 2. Changed bytes (a single unchanged byte does not end a literal: a new header costs more)
+            start = i;
+            while (i < target.length && (xor(base, target, i) != 0
+                    || (i + 1 < target.length && xor(base, target, i + 1) != 0))) {
+                i++;
+            }
+            writeVarInt(out, zeros);
+            writeVarInt(out, i - start);
+            for (int j = start; j < i; j++) {
+                out.write(xor(base, target, j));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Rebuilds the 'target' of encodeDelta() from the same 'base'.
+     */
+    static byte[] applyDelta(byte[] base, byte[] delta) {
+        int[] pos = {0};
+        byte[] target = new byte[readVarInt(delta, pos)];
+        System.arraycopy(base, 0, target, 0, Math.min(base.length, target.length));
+
+        int i = 0;
+        while (pos[0] < delta.length) {
+            i += readVarInt(delta, pos);
+            int length = readVarInt(delta, pos);
+            for (int end = i + length; i < end; i++) {
+                target[i] ^= delta[pos[0]++];
+            }
+        }
+        return target;
+    }
+
+    private static int xor(byte[] base, byte[] target, int i) {
+        return (i < base.length ? base[i] ^ target[i] : target[i]) & 0xFF;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] data, int[] pos) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = data[pos[0]++] & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+}
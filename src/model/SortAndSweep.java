@@ -0,0 +1,172 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SortAndSweep Class
+ *
+ * Broadphase that keeps all objects sorted by the left edge (min X) of their bounds.
+ * Two objects can only collide if their [minX, maxX] intervals overlap, so a query only scans
+ * the slots around its own position (found with a binary search) instead of the whole list.
+ *
+ * Key Features:
+ * - Temporal Coherence: the sorted order is kept between frames. Most objects move slowly
+ *   on X (Cyclops only bob up and down, Feathers and Boulders fall straight down),
+ *   so the list is almost sorted already and Insertion Sort fixes it in ~O(n).
+ * - New objects are appended at the end, removed ones are dropped (keeping the order).
+ *   An object is found again through its slot in its EntityBucket (swap-remove moves objects
+ *   between slots), and the bookkeeping stays in arrays of this class indexed by that slot.
+ *   Any other List also works, but is re-sorted from scratch at every rebuild.
+ * - The Y intervals are also compared, to filter objects that are aligned on X only.
+ */
+public class SortAndSweep extends Broadphase {
+
+    // --- SORTED LIST (kept across frames) ---
+    private GameObject[] sorted = new GameObject[64];
+    private int size;
+
+    // --- BOUNDS OF THE SORTED SLOTS (refreshed at every rebuild) ---
+    private float[] minX = new float[64];
+    private float[] maxX = new float[64];
+    private float[] minY = new float[64];
+    private float[] maxY = new float[64];
+    private int[] objectIndex = new int[64]; // Index of the object in the list passed to rebuild
+    private float maxWidth;                  // Widest object (limits the scan to the left)
+
+    // --- PER SLOT OF THE LIST (index = bucket slot) ---
+    private int[] listedFrame = new int[64]; // Last rebuild that found the object of this slot in the sorted list
+
+    private int frame; // Counter of rebuilds
+
+    /**
+     * Updates the sorted list with the objects of this frame and re-sorts it.
+     */
+    @Override
+    public void rebuild(List<? extends GameObject> objects) {
+        frame++;
+        int count = objects.size();
+        ensureCapacity(count);
+        loadSpawnKeys(objects);
+
+        // 1. Keep the objects still in the list (in the previous order), drop the others
+        int kept = 0;
+        for (int s = 0; s < size; s++) {
+            GameObject obj = sorted[s];
+            int index = obj.bucketSlot; // Its current slot (swap-remove may have moved it)
+            if (index >= 0 && index < count && objects.get(index) == obj) {
+                sorted[kept] = obj;
+                objectIndex[kept] = index;
+                listedFrame[index] = frame;
+                kept++;
+            }
+        }
+        Arrays.fill(sorted, kept, size, null);
+        size = kept;
+
+        // 2. Append the new objects (the slots not found above)
+        for (int i = 0; i < count; i++) {
+            if (listedFrame[i] != frame) {
+                sorted[size] = objects.get(i);
+                objectIndex[size] = i;
+                size++;
+            }
+        }
+
+        // 3. Read the current bounds and sort (Insertion Sort: fast on almost sorted data)
+        maxWidth = 0;
+        for (int s = 0; s < size; s++) {
+            loadSlot(s, sorted[s]);
+        }
+        insertionSort();
+    }
+
+    /**
+     * Finds the registered objects whose X and Y intervals overlap the ones of the given object.
+     */
+    @Override
+    public int query(GameObject obj) {
+        float qMinX = obj.getSweptX(), qMaxX = qMinX + obj.getSweptWidth();
+        float qMinY = obj.getSweptY(), qMaxY = qMinY + obj.getSweptHeight();
+        int count = 0;
+
+        // Sweep Left from the last slot starting before our right edge:
+        // nothing wider than maxWidth can reach us from further away
+        for (int s = upperBound(qMaxX) - 1; s >= 0 && minX[s] >= qMinX - maxWidth; s--) {
+            if (maxX[s] >= qMinX && minY[s] <= qMaxY && maxY[s] >= qMinY) {
+                count = addCandidate(count, objectIndex[s]);
+            }
+        }
+
+        sortCandidates(count);
+        return count;
+    }
+
+    // --- HELPERS ---
+
+    private void loadSlot(int s, GameObject obj) {
+        minX[s] = obj.getSweptX();
+        maxX[s] = obj.getSweptX() + obj.getSweptWidth();
+        minY[s] = obj.getSweptY();
+        maxY[s] = obj.getSweptY() + obj.getSweptHeight();
+        maxWidth = Math.max(maxWidth, obj.getSweptWidth());
+    }
+
+    /**
+     * Binary search: first slot whose min X is greater than the given value.
+     */
+    private int upperBound(float value) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (minX[mid] <= value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private void insertionSort() {
+        for (int i = 1; i < size; i++) {
+            if (minX[i - 1] <= minX[i]) continue; // Already in place (the common case)
+
+            GameObject obj = sorted[i];
+            float key = minX[i];
+            float keyMaxX = maxX[i], keyMinY = minY[i], keyMaxY = maxY[i];
+            int keyIndex = objectIndex[i];
+
+            int j = i - 1;
+            while (j >= 0 && minX[j] > key) {
+                sorted[j + 1] = sorted[j];
+                minX[j + 1] = minX[j];
+                maxX[j + 1] = maxX[j];
+                minY[j + 1] = minY[j];
+                maxY[j + 1] = maxY[j];
+                objectIndex[j + 1] = objectIndex[j];
+                j--;
+            }
+            sorted[j + 1] = obj;
+            minX[j + 1] = key;
+            maxX[j + 1] = keyMaxX;
+            minY[j + 1] = keyMinY;
+            maxY[j + 1] = keyMaxY;
+            objectIndex[j + 1] = keyIndex;
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (count > sorted.length) {
+            sorted = Arrays.copyOf(sorted, Math.max(count, sorted.length * 2));
+        }
+        if (count > listedFrame.length) {
+            listedFrame = Arrays.copyOf(listedFrame, Math.max(count, listedFrame.length * 2));
+        }
+        if (count > minX.length) {
+            int newSize = Math.max(count, minX.length * 2);
+            minX = Arrays.copyOf(minX, newSize);
+            maxX = Arrays.copyOf(maxX, newSize);
+            minY = Arrays.copyOf(minY, newSize);
+            maxY = Arrays.copyOf(maxY, newSize);
+            objectIndex = Arrays.copyOf(objectIndex, newSize);
+        }
+    }
+}
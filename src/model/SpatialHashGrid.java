@@ -0,0 +1,139 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SpatialHashGrid Class
+ *
+ * Uniform grid Broadphase used by the GameModel to avoid testing every object against every other one.
+ * The play field (WINDOW_WIDTH x FIELD_HEIGHT) is split into square cells and every object is
+ * registered in each cell its bounding box touches.
+ * Two objects only become a "candidate pair" if they share at least one cell.
+ *
+ * Key Features:
+ * - Rebuilt once per frame (after all objects moved), so it never holds stale positions.
+ * - Objects outside the field (spawning above the HUD, falling off the bottom) are clamped into the border cells.
+ * - Storage is made of plain int arrays (linked lists per cell) that are reused between frames.
+ */
+public class SpatialHashGrid extends Broadphase {
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+
+    // --- CELL STORAGE (one linked list of entries per cell) ---
+    private final int[] cellHead;   // First entry of each cell (-1 = empty cell)
+    private int[] entryNext;        // Next entry in the same cell (-1 = end of list)
+    private int[] entryObject;      // Index of the object stored in the entry
+    private int entryCount;
+
+    // --- QUERY STATE ---
+    private int[] visitStamp;       // Last query that reached each object (avoids duplicates)
+    private int queryStamp;
+
+    /**
+     * Constructor.
+     * @param cellSize Side of a square cell in pixels.
+     */
+    public SpatialHashGrid(int cellSize) {
+        this.cellSize = cellSize;
+        this.columns = (GameConstants.WINDOW_WIDTH + cellSize - 1) / cellSize;
+        this.rows = (GameConstants.FIELD_HEIGHT + cellSize - 1) / cellSize;
+        this.cellHead = new int[columns * rows];
+
+        entryNext = new int[256];
+        entryObject = new int[256];
+        visitStamp = new int[64];
+    }
+
+    /**
+     * Clears the grid and registers every object in all the cells touched by its bounds.
+     */
+    @Override
+    public void rebuild(List<? extends GameObject> objects) {
+        Arrays.fill(cellHead, -1);
+        entryCount = 0;
+        loadSpawnKeys(objects);
+        int objectCount = objects.size();
+        ensureObjectCapacity(objectCount);
+
+        for (int i = 0; i < objectCount; i++) {
+            GameObject obj = objects.get(i);
+
+            // Convert the (swept) hitbox bounds to a (clamped) range of cells
+            int firstColumn = toColumn(obj.getSweptX());
+            int lastColumn = toColumn(obj.getSweptX() + obj.getSweptWidth());
+            int firstRow = toRow(obj.getSweptY());
+            int lastRow = toRow(obj.getSweptY() + obj.getSweptHeight());
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int col = firstColumn; col <= lastColumn; col++) {
+                    addEntry(row * columns + col, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds all the registered objects sharing at least one cell with the given object.
+     */
+    @Override
+    public int query(GameObject obj) {
+        int firstColumn = toColumn(obj.getSweptX());
+        int lastColumn = toColumn(obj.getSweptX() + obj.getSweptWidth());
+        int firstRow = toRow(obj.getSweptY());
+        int lastRow = toRow(obj.getSweptY() + obj.getSweptHeight());
+
+        // New stamp: every object reached during this query is marked once
+        queryStamp++;
+        int count = 0;
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstColumn; col <= lastColumn; col++) {
+                for (int e = cellHead[row * columns + col]; e != -1; e = entryNext[e]) {
+                    int other = entryObject[e];
+                    if (visitStamp[other] == queryStamp) continue; // Already found in another cell
+
+                    visitStamp[other] = queryStamp;
+                    count = addCandidate(count, other);
+                }
+            }
+        }
+
+        sortCandidates(count);
+        return count;
+    }
+
+    // --- HELPERS ---
+
+    private int toColumn(double worldX) {
+        int col = (int) Math.floor(worldX / cellSize);
+        return Math.max(0, Math.min(columns - 1, col));
+    }
+
+    private int toRow(double worldY) {
+        // The field starts below the top HUD
+        int row = (int) Math.floor((worldY - GameConstants.HUD_HEIGHT) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private void addEntry(int cell, int objectIndex) {
+        if (entryCount == entryNext.length) {
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+            entryObject = Arrays.copyOf(entryObject, entryCount * 2);
+        }
+        entryObject[entryCount] = objectIndex;
+        entryNext[entryCount] = cellHead[cell];
+        cellHead[cell] = entryCount;
+        entryCount++;
+    }
+
+    private void ensureObjectCapacity(int size) {
+        if (size <= visitStamp.length) return;
+
+        // Stamps restart from zero with the new array
+        visitStamp = new int[Math.max(size, visitStamp.length * 2)];
+        queryStamp = 0;
+    }
+}
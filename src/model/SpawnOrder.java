@@ -0,0 +1,93 @@
+package model;
+
+import java.util.ArrayList;
+
+/**
+ * SpawnOrder Class
+ *
+ * The order in which objects entered the game, shared by all the EntityBuckets of a GameModel.
+ * It keeps the one property of the original single objects list that the typed buckets lose:
+ * a global order of the Player, Bosses, Minions and Projectiles together.
+ *
+ * - Spawn keys: an object gets the next value of one model-wide counter when it enters its bucket
+ *   (EntityBucket.renderKey), so keys from different buckets can be compared.
+ *   The GameModel resolves collisions in that order, like the (i, j) scan of the objects list.
+ * - Spawn queue: objects spawned during an update wait here in the order they were spawned,
+ *   whatever their bucket, and enter their buckets together with flush()
+ *   (same role as the old newObjectsBuffer).
+ */
+final class SpawnOrder {
+
+    private long nextKey;
+
+    // --- SPAWN QUEUE (parallel lists: the bucket of each queued object) ---
+    private final ArrayList<EntityBucket<?>> queuedBuckets = new ArrayList<>();
+    private final ArrayList<GameObject> queuedObjects = new ArrayList<>();
+
+    /**
+     * @return A new key, greater than every key given before.
+     */
+    long nextKey() {
+        return nextKey++;
+    }
+
+    /**
+     * @return The key the next object will get (every object in the game has a smaller one).
+     */
+    long peekNextKey() {
+        return nextKey;
+    }
+
+    void queue(EntityBucket<?> bucket, GameObject obj) {
+        queuedBuckets.add(bucket);
+        queuedObjects.add(obj);
+    }
+
+    /**
+     * Moves the queued objects into their buckets, in the order they were spawned.
+     */
+    void flush() {
+        for (int i = 0; i < queuedObjects.size(); i++) {
+            queuedBuckets.get(i).addQueued(queuedObjects.get(i));
+        }
+        queuedBuckets.clear();
+        queuedObjects.clear();
+    }
+
+    /**
+     * Drops the queued objects of one bucket (when the bucket is cleared).
+     */
+    void removeQueued(EntityBucket<?> bucket) {
+        int kept = 0;
+        for (int i = 0; i < queuedObjects.size(); i++) {
+            if (queuedBuckets.get(i) != bucket) {
+                queuedBuckets.set(kept, queuedBuckets.get(i));
+                queuedObjects.set(kept, queuedObjects.get(i));
+                kept++;
+            }
+        }
+        queuedBuckets.subList(kept, queuedBuckets.size()).clear();
+        queuedObjects.subList(kept, queuedObjects.size()).clear();
+    }
+
+    // --- KEYFRAMES (see GameModel.writeState / readState) ---
+
+    int getQueuedCount() {
+        return queuedObjects.size();
+    }
+
+    EntityBucket<?> getQueuedBucket(int index) {
+        return queuedBuckets.get(index);
+    }
+
+    GameObject getQueuedObject(int index) {
+        return queuedObjects.get(index);
+    }
+
+    /**
+     * Continues the saved order (the queue is refilled with EntityBucket.addLater()).
+     */
+    void restoreNextKey(long nextKey) {
+        this.nextKey = nextKey;
+    }
+}
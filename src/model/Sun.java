@@ -3,6 +3,10 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
+import java.awt.geom.RectangularShape;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Sun Class
@@ -23,6 +27,7 @@ public class Sun extends BossProjectile {
     private double preciseX, preciseY;
     private double velX, velY;
     private double initialSize; // Stored to calculate shrinking ratio
+    private boolean secondPhase; // Faster, red sun
 
     /**
      * Constructor for Sun Projectile.
@@ -31,8 +36,9 @@ public class Sun extends BossProjectile {
      * @param ApolloVelX velocity of Apollo (only if Apollo is the summoner)
      * @param isSecondPhase If true, spawns a faster, red sun. (only if Apollo is the summoner)
      * @param friendly If true, belongs to Player; else belongs to Apollo.
+     * @param random Generator for the launch angle / direction (see GameModel).
      */
-    public Sun(int summonerX, int summonerY, int ApolloVelX, boolean isSecondPhase, boolean friendly) {
+    public Sun(int summonerX, int summonerY, int ApolloVelX, boolean isSecondPhase, boolean friendly, GameRandom random) {
         // Call parent constructor
         super(0, 0,
                 GameConstants.SUN_WIDTH,
@@ -43,6 +49,7 @@ public class Sun extends BossProjectile {
                 1);
 
         this.isPlayerProjectile = friendly;
+        this.secondPhase = isSecondPhase;
         this.isPenetrating = true; // Sun cuts through enemies
 
         // If Player uses it, give it HP so it can be "worn down"
@@ -70,7 +77,7 @@ public class Sun extends BossProjectile {
             // Calculate random angle downwards (between 20 and 70 degrees)
             double minAngle = 20.0;
             double maxAngle = 70.0;
-            angleRadians = Math.toRadians(minAngle + Math.random() * (maxAngle - minAngle));
+            angleRadians = Math.toRadians(minAngle + random.nextDouble() * (maxAngle - minAngle));
 
         } else {
             // --- PLAYER LOGIC (ABILITY) ---
@@ -86,7 +93,7 @@ public class Sun extends BossProjectile {
 
             // Launch upwards at a 30-degree angle
             angleRadians = Math.toRadians(360 - 30);
-            velX = (Math.random() < 0.5) ? 1 : -1; // Randomize left/right start
+            velX = random.nextBoolean() ? 1 : -1; // Randomize left/right start
         }
 
         // Apply calculated velocity components
@@ -103,6 +110,21 @@ public class Sun extends BossProjectile {
         y = (int) preciseY;
     }
 
+    /**
+     * Empty Sun, set up later with readState() (used when restoring a Keyframe).
+     */
+    Sun() {
+        super(0, 0,
+                GameConstants.SUN_WIDTH,
+                GameConstants.SUN_HEIGHT,
+                ResourceManager.sunImg,
+                Alignment.ENEMY,
+                3, // Ultimate Power Level
+                1);
+        this.isPenetrating = true;
+        this.initialSize = GameConstants.SUN_WIDTH;
+    }
+
     @Override
     public void move() {
         preciseX += velX;
@@ -148,29 +170,57 @@ public class Sun extends BossProjectile {
         return initialSize * ratio;
     }
 
+    // Drawing rectangle: centered on (x, y), with the (potentially shrunk) size
     @Override
-    public void draw(Graphics g) {
-        double size = getCurrentSize();
-        double radius = size / 2.0;
+    public int getDrawX() { return (int) (x - getCurrentSize() / 2.0); }
+    @Override
+    public int getDrawY() { return (int) (y - getCurrentSize() / 2.0); }
+    @Override
+    public int getDrawWidth() { return (int) getCurrentSize(); }
+    @Override
+    public int getDrawHeight() { return (int) getCurrentSize(); }
 
-        // Center the drawing coordinates based on the (potentially shrunk) size
-        int drawX = (int) (x - radius);
-        int drawY = (int) (y - radius);
-        int drawSize = (int) size;
+    @Override
+    public Color getFallbackColor() {
+        return Color.YELLOW;
+    }
 
-        if (image != null) {
-            g.drawImage(image, drawX, drawY, drawSize, drawSize, null);
-        } else {
-            g.setColor(Color.YELLOW);
-            g.fillOval(x, y, width, height);
-        }
+    @Override
+    protected RectangularShape createHitbox() {
+        return new Ellipse2D.Float();
     }
 
     @Override
-    public Shape getShape() {
+    protected void updateHitbox(RectangularShape hitbox) {
         double size = getCurrentSize();
         double radius = size / 2.0;
         // give x and y with the normal (top left) coordinates instead of the centered coordinates
-        return new Ellipse2D.Float((float)(x - radius), (float)(y - radius), (float)size, (float)size);
+        hitbox.setFrame((float)(x - radius), (float)(y - radius), (float)size, (float)size);
+    }
+
+    @Override
+    public HitboxType getHitboxType() {
+        return HitboxType.ELLIPSE;
+    }
+
+    @Override
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeDouble(preciseX);
+        out.writeDouble(preciseY);
+        out.writeDouble(velX);
+        out.writeDouble(velY);
+        out.writeBoolean(secondPhase);
+    }
+
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        preciseX = in.readDouble();
+        preciseY = in.readDouble();
+        velX = in.readDouble();
+        velY = in.readDouble();
+        secondPhase = in.readBoolean();
+        image = secondPhase ? ResourceManager.sunImg2 : ResourceManager.sunImg;
     }
 }
\ No newline at end of file
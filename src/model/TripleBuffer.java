@@ -0,0 +1,73 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * TripleBuffer Class
+ *
+ * Lock-free hand-off of frames from one writer thread (the simulation) to one reader thread (the renderer).
+ *
+ * How it works:
+ * 1. There are three buffers: one owned by the writer, one owned by the reader,
+ *    and a "middle" one holding the latest published frame.
+ * 2. publish(): the writer swaps its buffer with the middle one (a single atomic getAndSet)
+ *    and keeps writing into the buffer it got back.
+ * 3. getReadBuffer(): if something new was published, the reader swaps its buffer with the middle one.
+ *
+ * Nobody ever waits: the writer never blocks on a slow renderer (old frames are simply overwritten)
+ * and the reader always gets the most recent complete frame. A buffer is never written
+ * while the reader holds it, so a published frame can be treated as immutable.
+ *
+ * @param <T> The frame type (e.g. RenderSnapshot). The buffers are reused, never reallocated.
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100; // Set when the middle buffer has not been read yet
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle;  // Index of the middle buffer (+ FRESH flag)
+    private int writeIndex;              // Only touched by the writer thread
+    private int readIndex;               // Only touched by the reader thread
+
+    /**
+     * Constructor.
+     * @param factory Creates the three (empty) buffers.
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+        writeIndex = 0;
+        middle = new AtomicInteger(1);
+        readIndex = 2;
+    }
+
+    /**
+     * Writer side: the buffer to fill with the next frame.
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) buffers[writeIndex];
+    }
+
+    /**
+     * Writer side: makes the buffer returned by getWriteBuffer() the latest frame.
+     */
+    public void publish() {
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Reader side: the latest published frame (the same as last time if nothing new was published).
+     * It stays valid until the next call.
+     */
+    @SuppressWarnings("unchecked")
+    public T getReadBuffer() {
+        if ((middle.get() & FRESH) != 0) {
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return (T) buffers[readIndex];
+    }
+}
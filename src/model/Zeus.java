@@ -3,7 +3,9 @@ package model;
 import view.ResourceManager;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.Random;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Zeus Class
@@ -30,7 +32,6 @@ public class Zeus extends Boss {
     }
 
     private State currentState;
-    private Random random = new Random();
 
     // Movement Variables
     private int velX = GameConstants.ZEUS_SPEED1;
@@ -127,7 +128,7 @@ public class Zeus extends Boss {
      * Spawns a Lightning projectile.
      */
     private void shootLighting(){
-        Lighting l = new Lighting(x, y, velX, secondPhase, false, ability2Started);
+        Lighting l = model.acquireLighting(x, y, velX, secondPhase, false, ability2Started);
         model.spawnEnemyProjectile(l);
     }
 
@@ -211,7 +212,7 @@ public class Zeus extends Boss {
     }
     // Set the number of bounces needed for activate ability1
     private void setBouncesForAbility1(){
-        bouncesRemainingForAbility1 = random.nextInt(4) + 1; // random between 1 and 4
+        bouncesRemainingForAbility1 = model.getEnemyRandom().nextInt(4) + 1; // random between 1 and 4
     }
 
     /**
@@ -265,7 +266,7 @@ public class Zeus extends Boss {
     }
 
     private void setAbility2BouncesRemaining(){
-        ability2BouncesRemaining = random.nextInt(3) + 1;
+        ability2BouncesRemaining = model.getEnemyRandom().nextInt(3) + 1;
     }
 
     /**
@@ -289,20 +290,68 @@ public class Zeus extends Boss {
         }
     }
 
+    /**
+     * Saves the whole state machine: current state, phase, timers and ability counters.
+     */
     @Override
-    public void draw(Graphics g) {
-        BufferedImage imgToDraw = (flashTimer > 0) ? hitImg : image;
+    protected void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeByte(currentState.ordinal());
+        out.writeInt(velX);
+        out.writeDouble(preciseX);
+        out.writeBoolean(secondPhase);
+        out.writeInt(shootingTimer);
+        out.writeInt(maxShootTimer);
+        out.writeInt(bouncesRemainingForAbility1);
+        out.writeInt(ability1InterTeleportPause);
+        out.writeInt(ability1InterTeleportTimer);
+        out.writeInt(ability1TeleportCounter);
+        out.writeInt(ability2Cooldown);
+        out.writeInt(ability2Timer);
+        out.writeInt(ability2BouncesRemaining);
+        out.writeBoolean(ability2Started);
+    }
 
-        if (image != null) {
-            // Directional Flipping
-            if (velX > 0) {
-                g.drawImage(imgToDraw, x, y, width, height, null);
-            } else {
-                g.drawImage(imgToDraw, x + width, y, -width, height, null);
-            }
-        } else {
-            g.setColor(Color.ORANGE);
-            g.fillRect(x, y, width, height);
-        }
+    @Override
+    protected void readState(DataInput in) throws IOException {
+        super.readState(in);
+        currentState = State.values()[in.readUnsignedByte()];
+        velX = in.readInt();
+        preciseX = in.readDouble();
+        secondPhase = in.readBoolean();
+        shootingTimer = in.readInt();
+        maxShootTimer = in.readInt();
+        bouncesRemainingForAbility1 = in.readInt();
+        ability1InterTeleportPause = in.readInt();
+        ability1InterTeleportTimer = in.readInt();
+        ability1TeleportCounter = in.readInt();
+        ability2Cooldown = in.readInt();
+        ability2Timer = in.readInt();
+        ability2BouncesRemaining = in.readInt();
+        ability2Started = in.readBoolean();
+        image = secondPhase ? ResourceManager.zeusImg2 : ResourceManager.zeusImg;
+        hitImg = secondPhase ? ResourceManager.zeusHitImg2 : ResourceManager.zeusHitImg;
+    }
+
+    /**
+     * Flash white if hit recently, otherwise show the normal sprite.
+     */
+    @Override
+    public BufferedImage getSprite() {
+        return (flashTimer > 0) ? hitImg : image;
+    }
+
+    /**
+     * The sprite faces right: it is mirrored when moving left.
+     * The collision mask follows the same direction.
+     */
+    @Override
+    public boolean isFlipped() {
+        return velX <= 0;
+    }
+
+    @Override
+    public Color getFallbackColor() {
+        return Color.ORANGE;
     }
 }
\ No newline at end of file
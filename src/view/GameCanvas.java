@@ -0,0 +1,87 @@
+package view;
+
+import model.GameConstants;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * GameCanvas Class
+ *
+ * Active rendering mode: the **View** as a Canvas with a BufferStrategy.
+ *
+ * Instead of asking Swing to repaint (repaint() can be delayed or merged on the EDT),
+ * the GameLoop thread draws every frame itself, right after the simulation steps:
+ * 1. Draw the latest snapshot into the back buffer with the GameRenderer.
+ * 2. show(): page flipping if the graphics card supports it, otherwise a blit.
+ * 3. Toolkit.sync(): flushes the frame to the screen (needed on Linux, or frames lag behind).
+ *
+ * Everything happens on the GameLoop thread, so each presented frame matches a finished step.
+ * Must be added to a visible window before start() (the BufferStrategy needs a peer).
+ */
+public class GameCanvas extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BUFFERS = 2; // Front + back buffer
+
+    private final GameController controller; // Owns the Model and the Game Loop
+    private final GameRenderer renderer = new GameRenderer();
+    private BufferStrategy strategy;
+
+    public GameCanvas() {
+        this(new GameController());
+    }
+
+    /**
+     * @param controller Controller of the game to show (started by start()).
+     */
+    public GameCanvas(GameController controller) {
+        this.controller = controller;
+
+        // Set Canvas dimensions (Game Field + Top HUD + Bottom HUD)
+        this.setPreferredSize(new Dimension(GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT));
+        this.setBackground(Color.BLACK);
+        this.setIgnoreRepaint(true); // We draw ourselves, AWT paint requests are ignored
+
+        // Input Setup
+        this.setFocusable(true);
+        this.addKeyListener(controller);
+    }
+
+    /**
+     * Creates the BufferStrategy and starts the Game Loop.
+     * Call it once the window is visible.
+     */
+    public void start() {
+        createBufferStrategy(BUFFERS);
+        strategy = getBufferStrategy();
+        controller.start(this::renderFrame);
+        requestFocus();
+    }
+
+    /**
+     * Draws and presents one frame (runs on the GameLoop thread).
+     */
+    private void renderFrame() {
+        // The contents of the buffers can be lost at any time (e.g. the window was minimized):
+        // redraw until a complete frame was presented
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    // Clear previous frame
+                    g.setColor(getBackground());
+                    g.fillRect(0, 0, getWidth(), getHeight());
+
+                    renderer.render(g, controller.getLatestFrame());
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+}
@@ -0,0 +1,232 @@
+package view;
+
+import model.*;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameController Class
+ *
+ * The **Controller** in the MVC architecture, shared by both presentation modes
+ * (GamePanel and GameCanvas).
+ *
+ * Responsibilities:
+ * 1. Owns the GameModel and the GameLoop thread that updates it (60 steps per second).
+ * 2. Listens for keyboard input and hands it to the model's InputController
+ *    (or plays back a replay instead, at normal speed).
+ * 3. Optionally records the input of every step to a replay file.
+ * 4. Publishes a RenderSnapshot after every step for the View.
+ * 5. Keeps the last seconds of play in a RewindBuffer: holding BACKSPACE scrubs the game back
+ *    (keyboard games only: a rewind cannot be replayed, so it is off while recording or replaying).
+ * 6. Saves every checkpoint to a CheckpointStore and loads it at startup, so "Continue" survives
+ *    closing the game (keyboard games only as well: a replay must not depend on a saved file).
+ *
+ * Threads (no locks):
+ * - Simulation (GameLoop thread): the only thread touching the model. After every step it
+ *   publishes a RenderSnapshot through a TripleBuffer.
+ * - UI thread: sets the key bits. The simulation thread takes them at the start of the next step.
+ * - Renderer: reads the latest snapshot with getLatestFrame() (always from the same thread).
+ */
+public class GameController implements KeyListener {
+
+    private final GameModel model; // Reference to the Model (Game Logic)
+    private final InputController input;
+    private final ReplayPlayer replay; // Plays instead of the keyboard (null = keyboard)
+    private ReplayRecorder recorder;   // Records every step (null = off)
+    private RewindBuffer rewind;       // Snapshots of the last seconds (null = off)
+    private GameLoop gameLoop;         // Fixed-timestep loop (runs on its own thread)
+
+    // --- Thread hand-off ---
+    private final TripleBuffer<RenderSnapshot> frames = new TripleBuffer<>(RenderSnapshot::new); // Simulation -> Renderer
+    // UI thread -> Simulation: low 32 bits = keys held, high 32 bits = keys pressed since the last step
+    private final AtomicLong keys = new AtomicLong();
+    private final AtomicBoolean rewinding = new AtomicBoolean(); // BACKSPACE held
+
+    /**
+     * Creates a controller for a new game played with the keyboard.
+     */
+    public GameController() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     * @param replay Replay to play back at normal speed, or null to play with the keyboard.
+     */
+    public GameController(ReplayPlayer replay) {
+        this.replay = replay;
+        // Initialize Model (Starts in TITLE state). A replay needs the recorded seed.
+        this.model = (replay != null) ? new GameModel(replay.getSeed()) : new GameModel();
+        this.input = new InputController(model);
+        this.rewind = (replay == null) ? new RewindBuffer() : null;
+    }
+
+    /**
+     * Saves the checkpoints of this game to a file, and lets the title screen continue
+     * from the one saved there by a previous session (call before start()).
+     * A missing file is a first session; an unreadable one is reported and ignored.
+     */
+    public void useCheckpoints(CheckpointStore store) {
+        if (replay != null || recorder != null) return;
+
+        try {
+            model.setSavedCheckpoint(store.load());
+        } catch (IOException e) {
+            System.err.println("Error: Could not load the checkpoint from " + store.getFile() + " (" + e.getMessage() + ")");
+        }
+        model.setCheckpointStore(store);
+    }
+
+    /**
+     * Records the game to a replay file (call before start()).
+     */
+    public void recordTo(Path file) throws IOException {
+        recorder = new ReplayRecorder(file, model, input);
+        rewind = null;
+        model.setCheckpointStore(null);
+        model.setSavedCheckpoint(null);
+    }
+
+    /**
+     * Jumps to a step of the replay being played (call before start()).
+     */
+    public void seek(long step) throws IOException {
+        if (replay == null) throw new IllegalStateException("Only a replay can seek");
+        replay.seek(step, model, input);
+    }
+
+    /**
+     * Starts the Game Loop.
+     * @param render Called by the GameLoop thread when a new frame should be drawn
+     *               (e.g. repaint(), or an active render of the GameCanvas).
+     */
+    public void start(Runnable render) {
+        // Exactly FPS updates per second, independent of how long painting takes
+        gameLoop = new GameLoop(this::step, render);
+        gameLoop.start();
+    }
+
+    /**
+     * Stops the Game Loop and closes the replay file being recorded.
+     * Safe to call from any thread (e.g. a shutdown hook).
+     */
+    public void stop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+        if (recorder != null) {
+            try {
+                recorder.close();
+            } catch (IOException e) {
+                System.err.println("Error: Could not save the replay.");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Renderer side: the latest published snapshot (valid until the next call).
+     * Must always be called from the same thread.
+     */
+    public RenderSnapshot getLatestFrame() {
+        return frames.getReadBuffer();
+    }
+
+    /**
+     * One simulation step (runs on the GameLoop thread).
+     * @param stepTime System.nanoTime() the step belongs to.
+     */
+    private void step(long stepTime) {
+        // 0. Rewinding: go back one snapshot instead of playing
+        if (rewind != null && rewinding.get() && model.getState() != GameState.TITLE) {
+            rewind.stepBack(model, input);
+            publish(stepTime);
+            return;
+        }
+
+        // 1. Take the keys of this step (held keys stay, the presses are consumed)
+        int packed;
+        if (replay != null) {
+            packed = replay.nextInput();
+        } else {
+            long k = keys.getAndUpdate(v -> v & 0xFFFFFFFFL);
+            packed = InputController.pack((int) k, (int) (k >>> 32));
+        }
+        if (recorder != null) {
+            recorder.record(packed);
+        }
+        input.apply(packed);
+
+        if (input.isQuitRequested()) {
+            stop();
+            System.exit(0);   // Quit App
+        }
+
+        // 2. Advance the game (only the steps actually played can be rewound)
+        model.update();
+        if (rewind != null && model.getState() == GameState.PLAYING) {
+            rewind.tick(model, input);
+        }
+
+        // 3. Publish what has to be drawn
+        publish(stepTime);
+    }
+
+    private void publish(long stepTime) {
+        RenderSnapshot snapshot = frames.getWriteBuffer();
+        model.writeSnapshot(snapshot, stepTime);
+        frames.publish();
+    }
+
+    // --- KEY LISTENER METHODS (UI thread: only set the key bits for the simulation thread) ---
+
+    @Override
+    public void keyPressed(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_BACK_SPACE) {
+            rewinding.set(true);
+            return;
+        }
+        long key = toInputKey(e.getKeyCode());
+        if (key != 0) {
+            keys.getAndUpdate(v -> v | key | (key << 32));
+        }
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_BACK_SPACE) {
+            rewinding.set(false);
+            return;
+        }
+        long key = toInputKey(e.getKeyCode());
+        if (key != 0) {
+            keys.getAndUpdate(v -> v & ~key);
+        }
+    }
+
+    @Override
+    public void keyTyped(KeyEvent e) {}
+
+    /**
+     * Maps a keyboard key to its InputController bit (0 if the game does not use it).
+     */
+    private static int toInputKey(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_LEFT:  return InputController.LEFT;
+            case KeyEvent.VK_RIGHT: return InputController.RIGHT;
+            case KeyEvent.VK_UP:    return InputController.UP;
+            case KeyEvent.VK_DOWN:  return InputController.DOWN;
+            case KeyEvent.VK_SPACE: return InputController.SPACE;
+            case KeyEvent.VK_1:     return InputController.ABILITY1;
+            case KeyEvent.VK_2:     return InputController.ABILITY2;
+            case KeyEvent.VK_P:     return InputController.PAUSE;
+            case KeyEvent.VK_C:     return InputController.CONTINUE;
+            case KeyEvent.VK_Q:     return InputController.QUIT;
+            default:                return 0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package view;
+
+import model.GameConstants;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * GameLoop Class
+ *
+ * Fixed-timestep game loop running on its own thread (instead of a javax.swing.Timer on the EDT).
+ *
+ * How it works ("Fix Your Timestep"):
+ * 1. The real time elapsed since the last iteration is added to an accumulator.
+ * 2. The simulation is advanced in fixed steps of 1/FPS seconds while the accumulator allows it,
+ *    so the game speed never depends on how long painting takes.
+ * 3. Catch-up cap: after a long stall (e.g. window dragged) at most MAX_CATCH_UP_STEPS are run,
+ *    the rest of the backlog is dropped (the game slows down instead of freezing).
+ * 4. A frame is rendered at most RENDER_FPS times per second.
+ *
+ * The step receives the real time its result belongs to: the simulation stores it in the
+ * RenderSnapshot it publishes, and the renderer uses it to interpolate between two steps.
+ * This thread owns the model: the View and the input handlers never touch it directly.
+ */
+public class GameLoop implements Runnable {
+
+    private static final long SECOND = 1_000_000_000L;
+    public static final long STEP_NANOS = SECOND / GameConstants.FPS; // Duration of one fixed step
+
+    private final LongConsumer step; // One fixed simulation step (receives its time)
+    private final Runnable render;   // Requests a new frame (e.g. repaint())
+
+    private final long stepNanos = STEP_NANOS;
+    private final long renderNanos = SECOND / GameConstants.RENDER_FPS;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Constructor.
+     * @param step Advances the simulation by one fixed step (System.nanoTime() of the step as argument).
+     * @param render Called when a new frame should be drawn.
+     */
+    public GameLoop(LongConsumer step, Runnable render) {
+        this.step = step;
+        this.render = render;
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this, "Game Loop");
+        thread.setDaemon(true); // Do not keep the application alive when the window is closed
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long nextRender = previous;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            // 1. Catch-up cap: drop the backlog we could never recover
+            long maxBacklog = stepNanos * GameConstants.MAX_CATCH_UP_STEPS;
+            if (accumulator > maxBacklog) {
+                accumulator = maxBacklog;
+            }
+
+            // 2. Fixed simulation steps
+            while (accumulator >= stepNanos) {
+                accumulator -= stepNanos;
+                step.accept(now - accumulator); // The time this step "happens" at
+            }
+
+            // 3. Render (capped)
+            if (now >= nextRender) {
+                render.run();
+                nextRender += renderNanos;
+                if (nextRender < now) nextRender = now + renderNanos; // Too late: restart the cadence
+            }
+
+            // 4. Sleep until the next step or frame is due
+            long wait = Math.min(stepNanos - accumulator, nextRender - System.nanoTime());
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+}
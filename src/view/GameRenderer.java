@@ -0,0 +1,601 @@
+package view;
+
+import model.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * GameRenderer Class
+ *
+ * Draws one frame of the game (Background, Objects, HUD and the overlay screens) from a RenderSnapshot.
+ * Shared by both presentation modes:
+ * - GamePanel: passive rendering (repaint() / paintComponent on the EDT).
+ * - GameCanvas: active rendering (BufferStrategy, driven by the GameLoop thread).
+ *
+ * It only reads the snapshot, never the model, so it can run on any single thread.
+ */
+public class GameRenderer {
+
+    private RenderSnapshot frame; // Snapshot being drawn
+    private final VolatileImageCache staticImages = new VolatileImageCache(); // Backgrounds & title screen, in video memory
+
+    // ==========================================
+    // ROMAN THEME COLOR PALETTE
+    // ==========================================
+    // Declared as 'final' to improve performance (avoids creating new Color objects every frame)
+
+    // Backgrounds
+    private final Color romanRedDark = new Color(40, 5, 5);           // Deep blood red for HUD backgrounds
+    private final Color overlayDark = new Color(0, 0, 0, 150);        // Semi-transparent black for dimming
+    private final Color boxBackground = new Color(60, 10, 10, 240);   // Imperial red for message boxes
+    private final Color slotBackground = new Color(30, 10, 5);        // Dark brown for ability slots
+
+    // Text & Borders
+    private final Color romanGold = new Color(218, 165, 32);          // Ancient Gold for borders/titles
+    private final Color marbleWhite = new Color(255, 250, 225);       // Cream/Marble white for main text
+    private final Color highlightGold = new Color(255, 215, 0);       // Bright Gold for blinking text
+
+    // Utilities
+    private final Color cooldownOverlay = new Color(0, 0, 0, 180);    // Dark overlay for ability cooldowns
+
+    /**
+     * Draws a complete frame.
+     * The caller is responsible for clearing the surface first.
+     * @param frame Latest published snapshot (must not change while drawing).
+     */
+    public void render(Graphics g, RenderSnapshot frame) {
+        this.frame = frame;
+
+        // Switch drawing logic based on the current Game State
+        GameState state = frame.getState();
+        if (state == null) return; // Nothing published yet
+
+        // Position between the last two updates (only moving while playing)
+        double alpha = 1.0;
+        if (state == GameState.PLAYING) {
+            alpha = (double) (System.nanoTime() - frame.getStepTime()) / GameLoop.STEP_NANOS;
+            alpha = Math.max(0, Math.min(1, alpha));
+        }
+
+        if (state == GameState.TITLE) {
+            drawTitleScreen(g);
+        }
+        else if (state == GameState.PLAYING || state == GameState.PAUSED || state == GameState.MESSAGE) {
+            drawGameScreen(g, alpha); // Draw the game world first
+
+            // Draw overlays on top if needed
+            if (state == GameState.PAUSED){
+                drawPauseScreen(g);
+            }
+            else if (state == GameState.MESSAGE) {
+                drawMessageScreen(g);
+            }
+        }
+        else if (state == GameState.GAMEOVER) {
+            drawGameScreen(g, 1.0); // Keep game visible in background
+            drawGameOverScreen(g);
+        }
+    }
+
+    /**
+     * Helper to set the custom Pixel Font if available, otherwise fallback to Arial.
+     */
+    private void setPixelFont(Graphics g, float size) {
+        if (ResourceManager.pixelFont != null) {
+            g.setFont(ResourceManager.pixelFont.deriveFont(size));
+        } else {
+            g.setFont(new Font("Arial", Font.BOLD, (int)size));
+        }
+    }
+
+    // --- DRAWING METHODS ---
+
+    /**
+     * Renders the main gameplay view.
+     * @param alpha Interpolation between the previous (0) and the current (1) update.
+     */
+    private void drawGameScreen(Graphics g, double alpha) {
+        Graphics2D g2 = (Graphics2D) g;
+
+        // 1. Draw Background
+        BufferedImage backgroundImg = ResourceManager.getSprite(frame.getBackgroundSprite());
+        if (backgroundImg != null) {
+            drawBackground(g, backgroundImg, alpha);
+        } else {
+            // Fallback: Black background if image is missing
+            g.setColor(Color.BLACK);
+            g.fillRect(0, GameConstants.HUD_HEIGHT, GameConstants.WINDOW_WIDTH, GameConstants.FIELD_HEIGHT);
+        }
+
+        // 2. Draw Game Objects (Player, Enemies, Projectiles)
+        for (int i = 0; i < frame.getCount(); i++) {
+            // Logic: Flicker player visibility when invincible (Visual feedback)
+            if (frame.hasFlag(i, RenderSnapshot.BLINK)) {
+                // Toggle visibility every 100ms
+                if (System.currentTimeMillis() % 200 < 100) {
+                    continue; // Skip drawing this frame
+                }
+            }
+
+            // Draw where the object was at 'alpha' between its previous and current position
+            double dx = -frame.getMoveX(i) * (1 - alpha);
+            double dy = -frame.getMoveY(i) * (1 - alpha);
+            g2.translate(dx, dy);
+            drawSprite(g2, i);
+            g2.translate(-dx, -dy);
+        }
+
+        // 3. Draw Top HUD (Score, Stage, Lives)
+        drawTopHUD(g);
+
+        // 4. Draw Bottom HUD (Ability Slots)
+        drawBottomHUD(g);
+    }
+
+    /**
+     * Draws one entry of the snapshot (sprite, mirrored sprite, or fallback shape).
+     */
+    private void drawSprite(Graphics g, int i) {
+        int x = frame.getDrawX(i);
+        int y = frame.getDrawY(i);
+        int width = frame.getDrawWidth(i);
+        int height = frame.getDrawHeight(i);
+        int id = frame.getSpriteId(i);
+        boolean flipped = frame.hasFlag(i, RenderSnapshot.FLIPPED);
+
+        // Pre-scaled and pre-mirrored: 1:1 blit from the texture atlas
+        SpriteAtlas.Region region = ResourceManager.getSpriteRegion(id, width, height, flipped ? ResourceManager.MIRROR_X : 0);
+        if (region != null) {
+            region.draw(g, x, y);
+            return;
+        }
+
+        // Not packed at this size: scale / mirror while drawing
+        BufferedImage img = ResourceManager.getScaledSprite(id, width, height);
+        if (img != null) {
+            if (flipped) {
+                // We draw at (x + width) with a negative width (-width) to mirror it
+                g.drawImage(img, x + width, y, -width, height, null);
+            } else {
+                drawScaled(g, img, x, y, width, height);
+            }
+        } else {
+            // Fallback: colored shape if the image failed to load
+            g.setColor(frame.getFallbackColor(i));
+            if (frame.hasFlag(i, RenderSnapshot.OVAL)) {
+                g.fillOval(x, y, width, height);
+            } else {
+                g.fillRect(x, y, width, height);
+            }
+        }
+    }
+
+    /**
+     * Draws an image into a rectangle: a plain 1:1 copy when it already has the size of the rectangle
+     * (see ResourceManager.getScaledSprite), otherwise scaled while drawing.
+     */
+    private static void drawScaled(Graphics g, BufferedImage img, int x, int y, int width, int height) {
+        if (img.getWidth() == width && img.getHeight() == height) {
+            g.drawImage(img, x, y, null);
+        } else {
+            g.drawImage(img, x, y, width, height, null);
+        }
+    }
+
+    /**
+     * Draws a HUD sprite into a rectangle: from the texture atlas when it was packed at that size.
+     * @return false if the sprite is not loaded (the caller may draw a fallback shape).
+     */
+    private static boolean drawIcon(Graphics g, BufferedImage sprite, int x, int y, int width, int height) {
+        SpriteAtlas.Region region = ResourceManager.getSpriteRegion(sprite, width, height, 0);
+        if (region != null) {
+            region.draw(g, x, y);
+            return true;
+        }
+        BufferedImage img = ResourceManager.getScaledSprite(sprite, width, height);
+        if (img == null) return false;
+        drawScaled(g, img, x, y, width, height);
+        return true;
+    }
+
+    /**
+     * Same as drawScaled(), for the large images that never change (backgrounds, title screen):
+     * once pre-scaled, they are drawn from their copy in video memory (see VolatileImageCache).
+     */
+    private void drawStatic(Graphics g, BufferedImage img, int x, int y, int width, int height) {
+        if (img.getWidth() == width && img.getHeight() == height) {
+            staticImages.draw((Graphics2D) g, img, x, y);
+        } else {
+            g.drawImage(img, x, y, width, height, null);
+        }
+    }
+
+    /**
+     * Draws the scrolling background between the previous and the current update (render interpolation).
+     * Stage 2 uses the "Mirroring" technique (see Background), the other stages are static.
+     * @param alpha 0 = position of the previous update, 1 = current position.
+     */
+    private void drawBackground(Graphics g, BufferedImage image, double alpha) {
+        int tileHeight = GameConstants.FIELD_HEIGHT / 2; // Height of one "tile"
+
+        // Step back by the part of the last scroll that has not "happened" yet
+        double drawY = frame.getBackgroundY() - frame.getBackgroundSpeed() * (1 - alpha);
+        if (drawY < GameConstants.HUD_HEIGHT) {
+            drawY += tileHeight * 2; // Same picture: the loop repeats every two tiles
+        }
+        int currentY = (int) drawY;
+
+        // Stage 2 logic (assumed to use the mirroring technique)
+        if (image == ResourceManager.stage2Img){
+            // DRAWING STRATEGY:
+            // We need to cover the entire screen height.
+            // Since our tile is smaller, and the background moves,
+            // we draw a chain of tiles: Normal -> Flipped -> Normal -> Flipped.
+
+            // 1. Draw Normal Tile at current Y
+            drawBackgroundTile(g, image, currentY, false);
+
+            // 2. Draw Flipped Tile BELOW it (y + HEIGHT)
+            drawBackgroundTile(g, image, currentY + tileHeight, true);
+
+            // 3. Draw Flipped Tile ABOVE it (y - HEIGHT)
+            // Essential for when 'currentY' is near 0
+            drawBackgroundTile(g, image, currentY - tileHeight, true);
+
+            // 4. Draw Normal Tile ABOVE that (y - 2*HEIGHT)
+            // Essential for the seamless loop wrap-around
+            drawBackgroundTile(g, image, currentY - (tileHeight * 2), false);
+        } else {
+            // Default drawing (static background )
+            BufferedImage scaled = ResourceManager.getScaledSprite(image, GameConstants.WINDOW_WIDTH, tileHeight * 2);
+            drawStatic(g, scaled, 0, GameConstants.HUD_HEIGHT, GameConstants.WINDOW_WIDTH, tileHeight * 2);
+        }
+    }
+
+    /**
+     * Helper to draw a background tile either normally or vertically flipped.
+     * @param yPos The Y coordinate to draw at
+     * @param isFlipped If true, mirrors the image vertically
+     */
+    private void drawBackgroundTile(Graphics g, BufferedImage image, int yPos, boolean isFlipped) {
+        int tileHeight = GameConstants.FIELD_HEIGHT / 2;
+
+        // Pre-scaled (and pre-flipped) tile: plain copy from video memory
+        BufferedImage tile = ResourceManager.getOrientedSprite(image, GameConstants.WINDOW_WIDTH, tileHeight,
+                isFlipped ? ResourceManager.MIRROR_Y : 0);
+        if (tile != null) {
+            staticImages.draw((Graphics2D) g, tile, 0, yPos);
+            return;
+        }
+
+        tile = ResourceManager.getScaledSprite(image, GameConstants.WINDOW_WIDTH, tileHeight);
+        if (!isFlipped) {
+            // Normal Draw
+            drawScaled(g, tile, 0, yPos, GameConstants.WINDOW_WIDTH, tileHeight);
+        } else {
+            // Flipped Draw:
+            // - Destination Y starts at the bottom of the target area (yPos + HEIGHT)
+            // - Height is negative (-HEIGHT) to draw upwards, effectively flipping it
+            g.drawImage(tile, 0, yPos + tileHeight, GameConstants.WINDOW_WIDTH, -tileHeight, null);
+        }
+    }
+
+    /**
+     * Draws the Top HUD containing Score, Stage Number, and Lives.
+     */
+    private void drawTopHUD(Graphics g) {
+        // 1. Draw Background Bar (Imperial Red)
+        g.setColor(romanRedDark);
+        g.fillRect(0, 0, GameConstants.WINDOW_WIDTH, GameConstants.HUD_HEIGHT);
+
+        // 2. Draw Gold Separator Line
+        g.setColor(romanGold);
+        g.drawLine(0, GameConstants.HUD_HEIGHT, GameConstants.WINDOW_WIDTH, GameConstants.HUD_HEIGHT);
+
+        // Optional: Draw a second darker line for a "chiseled" 3D effect
+        g.setColor(new Color(100, 50, 0));
+        g.drawLine(0, GameConstants.HUD_HEIGHT + 1, GameConstants.WINDOW_WIDTH, GameConstants.HUD_HEIGHT + 1);
+
+        // Font settings
+        setPixelFont(g, 18f);
+        int textY = 35;
+
+        // A. Score (Marble White)
+        g.setColor(marbleWhite);
+        g.drawString("SCORE:" + frame.getScore(), 10, textY);
+
+        // B. Stage (Centered, Gold)
+        g.setColor(romanGold);
+        String stageText = frame.getStageText();
+        int stageX = (GameConstants.WINDOW_WIDTH - g.getFontMetrics().stringWidth(stageText)) / 2;
+        g.drawString(stageText, stageX, textY);
+
+        // C. Lives / Hearts (Right aligned)
+        int maxLives = GameConstants.PLAYER_MAX_LIVES;
+        int currentLives = frame.getLives();
+        int heartSize = GameConstants.HUD_HEART_SIZE;
+        int spacing = 8;
+        int startX = GameConstants.WINDOW_WIDTH - 20 - (maxLives * (heartSize + spacing));
+        int heartY = (GameConstants.HUD_HEIGHT - heartSize) / 2;
+
+        for (int i = 0; i < maxLives; i++) {
+            // Choose icon: Full Heart vs Empty Heart
+            BufferedImage icon = (i < currentLives) ? ResourceManager.heartFullImg : ResourceManager.heartEmptyImg;
+
+            if (!drawIcon(g, icon, startX + (i * (heartSize + spacing)), heartY, heartSize, heartSize)) {
+                // Fallback shape if images missing
+                g.setColor(i < currentLives ? Color.RED : Color.GRAY);
+                g.fillOval(startX + (i * (heartSize + spacing)), heartY, heartSize, heartSize);
+            }
+        }
+    }
+
+    /**
+     * Draws the Bottom HUD containing Ability Slots and Cooldowns.
+     */
+    private void drawBottomHUD(Graphics g) {
+        // Calculate start Y position (below the game field)
+        int startY = GameConstants.HUD_HEIGHT + GameConstants.FIELD_HEIGHT;
+        int height = GameConstants.BOTTOM_HUD_HEIGHT;
+
+        // 1. Background Bar
+        g.setColor(romanRedDark);
+        g.fillRect(0, startY, GameConstants.WINDOW_WIDTH, height);
+
+        // 2. Separator Line
+        g.setColor(romanGold);
+        g.drawLine(0, startY, GameConstants.WINDOW_WIDTH, startY);
+
+        // 3. Draw Ability Slots
+        int slotSize = GameConstants.HUD_SLOT_SIZE;
+        int gap = 40;
+        int totalWidth = (3 * slotSize) + (2 * gap);
+        int startX = (GameConstants.WINDOW_WIDTH - totalWidth) / 2;
+        int slotY = startY + (height - slotSize) / 2 - 9;
+
+        setPixelFont(g, 14f);
+
+        for (int i = 0; i < 3; i++) {
+            int x = startX + (i * (slotSize + gap));
+
+            // A. Draw Slot Background
+            g.setColor(slotBackground);
+            g.fillRect(x, slotY, slotSize, slotSize);
+
+            // B. Draw Ability Icons and Cooldown Overlays
+
+            // --- ABILITY 1 (SUN) ---
+            if (i == 0 && frame.isAbilityUnlocked(1)) {
+                drawIcon(g, ResourceManager.sunImg, x, slotY, slotSize, slotSize);
+
+                // Cooldown Visualization
+                int timer = frame.getAbilityTimer(1);
+                if (timer > 0) {
+                    float ratio = (float) timer / GameConstants.ABILITY1TIMER;
+                    int overlayHeight = (int) (slotSize * ratio);
+
+                    // Draw dark overlay representing remaining cooldown
+                    g.setColor(cooldownOverlay);
+                    g.fillRect(x, slotY, slotSize, overlayHeight);
+
+                    // Draw countdown number
+                    g.setColor(marbleWhite);
+                    String keyNum = String.valueOf(timer/60 + 1);
+                    int numWidth = g.getFontMetrics().stringWidth(keyNum);
+                    g.drawString(keyNum, x + (slotSize - numWidth) / 2, slotY + 37);
+                }
+            }
+
+            // --- ABILITY 2 (LIGHTNING) ---
+            if (i == 1 && frame.isAbilityUnlocked(2)) {
+                drawIcon(g, ResourceManager.lightingImg, x, slotY, slotSize, slotSize);
+
+                // Cooldown Visualization
+                int timer = frame.getAbilityTimer(2);
+                if (timer > 0) {
+                    float ratio = (float) timer / GameConstants.ABILITY2TIMER;
+                    int overlayHeight = (int) (slotSize * ratio);
+
+                    g.setColor(cooldownOverlay);
+                    g.fillRect(x, slotY, slotSize, overlayHeight);
+
+                    g.setColor(marbleWhite);
+                    String keyNum = String.valueOf(timer/60 + 1);
+                    int numWidth = g.getFontMetrics().stringWidth(keyNum);
+                    g.drawString(keyNum, x + (slotSize - numWidth) / 2, slotY + 37);
+                }
+            }
+
+            // C. Draw Slot Border (Gold)
+            g.setColor(romanGold);
+            g.drawRect(x, slotY, slotSize, slotSize);
+            g.drawRect(x - 1, slotY - 1, slotSize + 2, slotSize + 2); // Double border for thickness
+
+            // D. Draw Key Number (1, 2, 3)
+            g.setColor(marbleWhite);
+            String keyNum = String.valueOf(i + 1);
+            int numWidth = g.getFontMetrics().stringWidth(keyNum);
+            g.drawString(keyNum, x + (slotSize - numWidth) / 2, slotY + slotSize + 25);
+        }
+    }
+
+    // Draw Title Screen
+    private void drawTitleScreen(Graphics g) {
+        // 1. Draw the Background Image
+        BufferedImage homeScreen = ResourceManager.getScaledSprite(ResourceManager.homeScreenImg,
+                GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+        if (homeScreen != null) {
+            drawStatic(g, homeScreen, 0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+        } else {
+            // Fallback: Imperial Red
+            g.setColor(romanRedDark);
+            g.fillRect(0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+        }
+
+        // 2. Draw Flashing "Press Start" Text
+        // Logic: (CurrentTime / 500ms) % 2 gives 0 or 1.
+        if ((System.currentTimeMillis() / 500) % 2 == 0) {
+            setPixelFont(g, 20f);
+            String msg = "PRESS [SPACE] TO START";
+
+            FontMetrics metrics = g.getFontMetrics();
+            int msgWidth = metrics.stringWidth(msg);
+            int x = (GameConstants.WINDOW_WIDTH - msgWidth) / 2;
+            int y = GameConstants.WINDOW_HEIGHT - 100;
+
+            // Draw Shadow
+            g.setColor(Color.BLACK);
+            g.drawString(msg, x + 2, y + 2);
+            g.drawString(msg, x - 2, y - 2);
+
+            // Draw Main Text
+            g.setColor(highlightGold);
+            g.drawString(msg, x, y);
+        }
+
+        // 3. Checkpoint saved by a previous session (always visible, under the blinking text)
+        if (frame.getSavedStage() > 0) {
+            setPixelFont(g, 16f);
+            String msg = "PRESS [C] TO CONTINUE (STAGE " + frame.getSavedStage() + ")";
+
+            FontMetrics metrics = g.getFontMetrics();
+            int x = (GameConstants.WINDOW_WIDTH - metrics.stringWidth(msg)) / 2;
+            int y = GameConstants.WINDOW_HEIGHT - 60;
+
+            g.setColor(Color.BLACK);
+            g.drawString(msg, x + 2, y + 2);
+            g.setColor(romanGold);
+            g.drawString(msg, x, y);
+        }
+    }
+
+    private void drawPauseScreen(Graphics g) {
+        // 1. Red Overlay
+        g.setColor(new Color(40, 5, 5, 200));
+        g.fillRect(0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+
+        // 2. "PAUSE" Title
+        setPixelFont(g, 40f);
+        String pauseText = "PAUSE";
+        int pauseWidth = g.getFontMetrics().stringWidth(pauseText);
+
+        g.setColor(romanGold);
+        g.drawString(pauseText, (GameConstants.WINDOW_WIDTH - pauseWidth) / 2, GameConstants.WINDOW_HEIGHT / 2 - 20);
+
+        // 3. Instruction Text
+        setPixelFont(g, 20f);
+        String resumeText = "Press [P] to Resume";
+        int resumeWidth = g.getFontMetrics().stringWidth(resumeText);
+
+        g.setColor(marbleWhite);
+        g.drawString(resumeText, (GameConstants.WINDOW_WIDTH - resumeWidth) / 2, GameConstants.WINDOW_HEIGHT / 2 + 30);
+    }
+
+    private void drawMessageScreen(Graphics g) {
+        // 1. Dim Background
+        g.setColor(overlayDark);
+        g.fillRect(0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+
+        // 2. Box Dimensions
+        int boxWidth = 500;
+        int boxHeight = 400;
+        int boxX = (GameConstants.WINDOW_WIDTH - boxWidth) / 2;
+        int boxY = (GameConstants.WINDOW_HEIGHT - boxHeight) / 2;
+
+        // 3. Draw Box Background (Imperial Red)
+        g.setColor(boxBackground);
+        g.fillRect(boxX, boxY, boxWidth, boxHeight);
+
+        // 4. Draw Box Border (Gold)
+        g.setColor(romanGold);
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setStroke(new BasicStroke(5)); // Thicker border
+        g2.drawRect(boxX, boxY, boxWidth, boxHeight);
+
+        // Inner decorative border
+        g2.setStroke(new BasicStroke(2));
+        g2.setColor(new Color(150, 100, 0));
+        g2.drawRect(boxX + 10, boxY + 10, boxWidth - 20, boxHeight - 20);
+
+        // 5. Draw Text Content
+        String[] lines = frame.getMessageLines();
+        if (lines != null) {
+            setPixelFont(g, 20f);
+
+            int lineHeight = 30;
+            int totalTextHeight = lines.length * lineHeight;
+            int startTextY = boxY + (boxHeight - totalTextHeight) / 2;
+
+            for (int i = 0; i < lines.length; i++) {
+                String line = lines[i];
+
+                // Highlight Headers (e.g., BOSS name) in Gold
+                if (line.endsWith(":") || line.contains("APOLLO") || line.contains("ZEUS")) {
+                    g.setColor(highlightGold);
+                } else {
+                    g.setColor(marbleWhite);
+                }
+
+                // Center align text
+                int lineWidth = g.getFontMetrics().stringWidth(line);
+                int lineX = (GameConstants.WINDOW_WIDTH - lineWidth) / 2;
+
+                g.drawString(line, lineX, startTextY + (i * lineHeight));
+            }
+        }
+
+        // 6. Draw "Press Space" Prompt (Blinking)
+        setPixelFont(g, 16f);
+        g.setColor(highlightGold);
+        String prompt = "- PRESS [SPACE] TO CONTINUE -";
+        int promptWidth = g.getFontMetrics().stringWidth(prompt);
+
+        if ((System.currentTimeMillis() / 500) % 2 == 0) {
+            g.drawString(prompt, (GameConstants.WINDOW_WIDTH - promptWidth) / 2, boxY + boxHeight - 30);
+        }
+    }
+
+    private void drawGameOverScreen(Graphics g) {
+        // 1. Red Overlay
+        g.setColor(new Color(40, 5, 5, 220));
+        g.fillRect(0, 0, GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT);
+
+        // 2. GAME OVER Title
+        setPixelFont(g, 50f);
+        String GO = "GAME OVER";
+        int goWidth = g.getFontMetrics().stringWidth(GO);
+        int centerX = (GameConstants.WINDOW_WIDTH - goWidth) / 2;
+        int centerY = 250;
+
+        // Shadow
+        g.setColor(new Color(20, 0, 0));
+        g.drawString(GO, centerX + 4, centerY + 4);
+
+        // Main Text
+        g.setColor(romanGold);
+        g.drawString(GO, centerX, centerY);
+
+        // 3. Final Score
+        setPixelFont(g, 25f);
+        g.setColor(marbleWhite);
+        String scoreMsg = "Final Score: " + frame.getScore();
+        int scoreWidth = g.getFontMetrics().stringWidth(scoreMsg);
+        g.drawString(scoreMsg, (GameConstants.WINDOW_WIDTH - scoreWidth) / 2, 330);
+
+        // 4. Options
+        setPixelFont(g, 20f);
+
+        // Continue Option
+        g.setColor(highlightGold);
+        String cont1 = "Press [C] to continue";
+        String cont2 = "from last checkpoint";
+        g.drawString(cont1, (GameConstants.WINDOW_WIDTH - g.getFontMetrics().stringWidth(cont1)) / 2, 440);
+        g.drawString(cont2, (GameConstants.WINDOW_WIDTH - g.getFontMetrics().stringWidth(cont1)) / 2, 480);
+
+        // Quit Option
+        g.setColor(new Color(200, 150, 100)); // Bronze
+        String quit = "Press [Q] to Quit";
+        g.drawString(quit, (GameConstants.WINDOW_WIDTH - g.getFontMetrics().stringWidth(quit)) / 2, 560);
+    }
+
+}
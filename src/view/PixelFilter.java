@@ -0,0 +1,58 @@
+package view;
+
+import java.awt.Color;
+
+/**
+ * PixelFilter Interface
+ *
+ * A color effect applied to every pixel of a sprite by the SpritePipeline: maps one ARGB pixel
+ * (not premultiplied, 0xAARRGGBB) to another.
+ *
+ * It must be a pure function of the pixel (no state): the pipeline calls it from many threads at once.
+ * New effects (enraged palettes, damage flashes...) are new filters, the pipeline stays the same.
+ */
+@FunctionalInterface
+public interface PixelFilter {
+
+    int filter(int argb);
+
+    /**
+     * Hit flash: every visible pixel turns pure white, keeping its alpha (soft edges stay soft).
+     */
+    PixelFilter WHITE_SILHOUETTE = argb -> (argb >>> 24 == 0) ? 0 : argb | 0x00FFFFFF;
+
+    /**
+     * Empty heart: every visible pixel turns black, keeping its alpha.
+     */
+    PixelFilter BLACK_SILHOUETTE = argb -> argb & 0xFF000000;
+
+    /**
+     * Blends the color of every visible pixel toward a color, keeping its alpha.
+     * @param color Target color (e.g. red for an enraged palette).
+     * @param amount 0 = unchanged, 1 = flat color (like a silhouette).
+     */
+    static PixelFilter tint(Color color, double amount) {
+        int weight = (int) Math.round(Math.max(0, Math.min(1, amount)) * 256); // Fixed point, 256 = 1.0
+        int tr = color.getRed();
+        int tg = color.getGreen();
+        int tb = color.getBlue();
+
+        return argb -> {
+            if (argb >>> 24 == 0) return 0;
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+            r += ((tr - r) * weight) >> 8;
+            g += ((tg - g) * weight) >> 8;
+            b += ((tb - b) * weight) >> 8;
+            return (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+        };
+    }
+
+    /**
+     * @return A filter applying this one, then 'next' (still a single pass over the pixels).
+     */
+    default PixelFilter andThen(PixelFilter next) {
+        return argb -> next.filter(filter(argb));
+    }
+}
@@ -1,11 +1,21 @@
 package view;
 
+import model.CollisionMask;
+import model.GameConstants;
+
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
 import java.io.IOException;
 import java.io.File;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * ResourceManager Class
@@ -17,6 +27,8 @@ import java.io.InputStream;
  * Instead of reloading the image from disk every time an enemy is created (which is slow),
  * we load all images once at startup (`loadImages`) and store them in static variables.
  * Game objects then simply reference these loaded images in memory.
+ * The renderer draws the copies pre-scaled to the on-screen sizes (getScaledSprite), never the full-size art.
+ * Every image is converted to the pixel format of the screen (toCompatible), so drawing stays accelerated.
  */
 public class ResourceManager {
 
@@ -73,6 +85,53 @@ public class ResourceManager {
     // --- FONTS ---
     public static Font pixelFont;
 
+    // --- SPRITE IDS ---
+    // Every loaded or generated image gets a small integer id, so the RenderSnapshot
+    // can describe a frame with plain ints instead of image references.
+    private static final List<BufferedImage> sprites = new ArrayList<>();
+    private static final Map<BufferedImage, Integer> spriteIds = new IdentityHashMap<>();
+
+    // --- PRE-SCALED SPRITES ---
+    // The art is much larger than the sprites on screen. Every sprite is also kept at the exact sizes
+    // it is drawn at (indexed by sprite id), so the renderer blits it 1:1 (see getScaledSprite)
+    private static final List<ScaledSprite[]> scaledSprites = new ArrayList<>();
+    private static final ScaledSprite[] NO_SIZES = new ScaledSprite[0];
+    private static final int MIP_MIN_SIZE = 8; // Smallest level of a mip chain
+
+    // Pixel format of the screen: every image is converted to it (null when headless, see toCompatible)
+    private static GraphicsConfiguration screenConfig;
+
+    // --- ORIENTATIONS (bit flags, see getOrientedSprite) ---
+    public static final int MIRROR_X = 1; // Flipped horizontally (facing the other way)
+    public static final int MIRROR_Y = 2; // Flipped vertically
+
+    // --- TEXTURE ATLAS ---
+    // Every pre-scaled / mirrored sprite drawn while playing, packed into a few pages (see packAtlas)
+    private static SpriteAtlas atlas;
+
+    /**
+     * One on-screen size of a sprite, in each orientation it is drawn in (index = orientation bits).
+     * Only the orientations generated by premirror() are set. Once packed, the images are views
+     * of the atlas pages and 'regions' holds their handles.
+     */
+    private static final class ScaledSprite {
+        final BufferedImage[] orientations = new BufferedImage[4];
+        final SpriteAtlas.Region[] regions = new SpriteAtlas.Region[4];
+
+        ScaledSprite(BufferedImage img) {
+            orientations[0] = img;
+        }
+
+        boolean hasSize(int width, int height) {
+            return orientations[0].getWidth() == width && orientations[0].getHeight() == height;
+        }
+    }
+
+    // --- COLLISION MASKS ---
+    // Pixel-perfect hitboxes, indexed by sprite: [0] = normal, [1] = horizontally mirrored
+    private static final Map<BufferedImage, CollisionMask[]> collisionMasks = new IdentityHashMap<>();
+    private static final int MASK_ALPHA_THRESHOLD = 128; // Pixels more transparent than this are ignored
+
     /**
      * Loads all resources from the "res" directory.
      * Must be called exactly once during game initialization.
@@ -80,6 +139,8 @@ public class ResourceManager {
     public static void loadImages() {
         try {
             System.out.println("Loading resources...");
+            screenConfig = GraphicsEnvironment.isHeadless() ? null
+                    : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
 
             // 1. Load Player
             playerImg = loadTexture("player_stage1.png");
@@ -92,37 +153,41 @@ public class ResourceManager {
             // 2. Load Minions
             // Harpy
             harpyImg = loadTexture("enemy.png");
-            harpyHitImg = createWhiteSilhouette(harpyImg); // Generate hit flash effect
             featherImg = loadTexture("feather.png");
 
             // Cyclops
             cyclopsImg = loadTexture("cyclops_opened_wings.png");
             cyclopsImg2 = loadTexture("cyclops_closed_wings.png");
-            cyclopsHitImg = createWhiteSilhouette(cyclopsImg); // Generate hit flash effect
-            cyclopsHitImg2 = createWhiteSilhouette(cyclopsImg2); // Generate hit flash effect
             boulderImg = loadTexture("boulder.png");
 
             // Minotaur
             minotaurImg = loadTexture("minotaur.png");
             minotaurImg2 = loadTexture("minotaur_angry.png");
-            minotaurHitImg = createWhiteSilhouette(minotaurImg);
 
             // 3. Load Bosses
             // Apollo
             apolloImg = loadTexture("Apollo.png");
             apolloImg2 = loadTexture("Apollo_phase2.png");
-            apolloHitImg = createWhiteSilhouette(apolloImg); // Generate hit flash effect
             sunImg = loadTexture("sun.png");
             sunImg2 = loadTexture("sun_phase2.png");
 
             // Zeus
             zeusImg = loadTexture("Zeus.png");
             zeusImg2 = loadTexture("Zeus_phase2.png");
-            zeusHitImg = createWhiteSilhouette(zeusImg); // Generate hit flash effect
-            zeusHitImg2 = createWhiteSilhouette(zeusImg2); // Generate hit flash effect
             lightingImg = loadTexture("lighting.png");
             lightingImg2 = loadTexture("lighting_phase2.png");
 
+            // Generate the hit flash effects (all at once, in parallel)
+            BufferedImage[] hitFlashes = createWhiteSilhouettes(harpyImg, cyclopsImg, cyclopsImg2, minotaurImg,
+                    apolloImg, zeusImg, zeusImg2);
+            harpyHitImg = hitFlashes[0];
+            cyclopsHitImg = hitFlashes[1];
+            cyclopsHitImg2 = hitFlashes[2];
+            minotaurHitImg = hitFlashes[3];
+            apolloHitImg = hitFlashes[4];
+            zeusHitImg = hitFlashes[5];
+            zeusHitImg2 = hitFlashes[6];
+
             // 4. Load UI & Backgrounds
             homeScreenImg = loadTexture("gladiator_game_screen.png");
             stage1Img = loadTexture("stage1.png");
@@ -131,7 +196,53 @@ public class ResourceManager {
             heartFullImg = loadTexture("heart.png");
             heartEmptyImg = createBlackSilhouette(heartFullImg); // Generate empty heart dynamically
 
-            // 5. Load Custom Font
+            // 5. Pre-scale every sprite to the sizes it is drawn at (with its hit flash)
+            prescale(GameConstants.PLAYER_WIDTH, GameConstants.PLAYER_HEIGHT, playerImg, playerImg2, playerImg3);
+            prescale(GameConstants.ARROW_WIDTH, GameConstants.ARROW_HEIGHT, arrowImg, arrowFireImg, arrowLightingImg);
+            prescale(GameConstants.HARPY_WIDTH, GameConstants.HARPY_HEIGHT, harpyImg, harpyHitImg);
+            prescale(GameConstants.FEATHER_WIDTH, GameConstants.FEATHER_HEIGHT, featherImg);
+            prescale(GameConstants.CYCLOPS_WIDTH, GameConstants.CYCLOPS_HEIGHT, cyclopsImg, cyclopsImg2, cyclopsHitImg, cyclopsHitImg2);
+            prescale(GameConstants.BOULDER_WIDTH, GameConstants.BOULDER_HEIGHT, boulderImg);
+            prescale(GameConstants.MINOTAUR_WIDTH, GameConstants.MINOTAUR_HEIGHT, minotaurImg, minotaurImg2, minotaurHitImg);
+            prescale(GameConstants.APOLLO_WIDTH, GameConstants.APOLLO_HEIGHT, apolloImg, apolloImg2, apolloHitImg);
+            prescale(GameConstants.SUN_WIDTH, GameConstants.SUN_HEIGHT, sunImg2);
+            prescaleMipChain(sunImg, GameConstants.SUN_WIDTH, GameConstants.SUN_HEIGHT, GameConstants.SUN_HP); // The Player's Sun shrinks with its HP
+            prescale(GameConstants.ZEUS_WIDTH, GameConstants.ZUES_HEIGHT, zeusImg, zeusImg2, zeusHitImg, zeusHitImg2);
+            prescale(GameConstants.LIGHTING_WIDTH, GameConstants.LIGHTING_HEIGHT, lightingImg, lightingImg2);
+
+            prescale(GameConstants.WINDOW_WIDTH, GameConstants.FIELD_HEIGHT, stage1Img, stage3Img);
+            prescale(GameConstants.WINDOW_WIDTH, GameConstants.FIELD_HEIGHT / 2, stage2Img); // Tiled (see GameRenderer.drawBackground)
+            prescale(GameConstants.WINDOW_WIDTH, GameConstants.WINDOW_HEIGHT, homeScreenImg);
+            prescale(GameConstants.HUD_HEART_SIZE, GameConstants.HUD_HEART_SIZE, heartFullImg, heartEmptyImg);
+            prescale(GameConstants.HUD_SLOT_SIZE, GameConstants.HUD_SLOT_SIZE, sunImg, lightingImg); // Ability icons
+
+            // 6. Pre-mirror the sprites drawn facing both ways (with their hit flash), and the stage 2 tile
+            premirror(MIRROR_X, harpyImg, harpyHitImg, minotaurImg, minotaurImg2, minotaurHitImg,
+                    apolloImg, apolloImg2, apolloHitImg, zeusImg, zeusImg2, zeusHitImg, zeusHitImg2);
+            premirror(MIRROR_Y, stage2Img); // "Mirroring" scroll (see GameRenderer.drawBackground)
+
+            // 7. Build Collision Masks from the pre-scaled (and pre-mirrored) copies: exactly the pixels drawn on screen
+            registerCollisionMask(harpyImg, GameConstants.HARPY_WIDTH, GameConstants.HARPY_HEIGHT);
+            registerCollisionMask(featherImg, GameConstants.FEATHER_WIDTH, GameConstants.FEATHER_HEIGHT);
+            registerCollisionMask(cyclopsImg, GameConstants.CYCLOPS_WIDTH, GameConstants.CYCLOPS_HEIGHT);
+            registerCollisionMask(cyclopsImg2, GameConstants.CYCLOPS_WIDTH, GameConstants.CYCLOPS_HEIGHT);
+            registerCollisionMask(boulderImg, GameConstants.BOULDER_WIDTH, GameConstants.BOULDER_HEIGHT);
+            registerCollisionMask(minotaurImg, GameConstants.MINOTAUR_WIDTH, GameConstants.MINOTAUR_HEIGHT);
+            registerCollisionMask(minotaurImg2, GameConstants.MINOTAUR_WIDTH, GameConstants.MINOTAUR_HEIGHT);
+            registerCollisionMask(apolloImg, GameConstants.APOLLO_WIDTH, GameConstants.APOLLO_HEIGHT);
+            registerCollisionMask(apolloImg2, GameConstants.APOLLO_WIDTH, GameConstants.APOLLO_HEIGHT);
+            registerCollisionMask(zeusImg, GameConstants.ZEUS_WIDTH, GameConstants.ZUES_HEIGHT);
+            registerCollisionMask(zeusImg2, GameConstants.ZEUS_WIDTH, GameConstants.ZUES_HEIGHT);
+            registerCollisionMask(lightingImg, GameConstants.LIGHTING_WIDTH, GameConstants.LIGHTING_HEIGHT);
+            registerCollisionMask(lightingImg2, GameConstants.LIGHTING_WIDTH, GameConstants.LIGHTING_HEIGHT);
+            registerCollisionMask(arrowImg, GameConstants.ARROW_WIDTH, GameConstants.ARROW_HEIGHT);
+            registerCollisionMask(arrowFireImg, GameConstants.ARROW_WIDTH, GameConstants.ARROW_HEIGHT);
+            registerCollisionMask(arrowLightingImg, GameConstants.ARROW_WIDTH, GameConstants.ARROW_HEIGHT);
+
+            // 8. Pack the sprites into the texture atlas (the large static layers stay separate, see VolatileImageCache)
+            packAtlas(stage1Img, stage2Img, stage3Img, homeScreenImg);
+
+            // 9. Load Custom Font
             try {
                 // Access font file as an input stream
                 InputStream is = ResourceManager.class.getClassLoader().getResourceAsStream("PixelFont.ttf");
@@ -169,64 +280,382 @@ public class ResourceManager {
         if (url == null) {
             // Fallback: Try reading as a standard file if getResource fails (e.g., in some IDE setups)
             try {
-                return ImageIO.read(new File(path));
+                return registerSprite(toCompatible(ImageIO.read(new File(path))));
             } catch (IOException ex) {
                 throw new IOException("Image not found: " + path);
             }
         }
-        return ImageIO.read(url);
+        return registerSprite(toCompatible(ImageIO.read(url)));
     }
 
     /**
-     * Generates a "Hit Flash" effect dynamically.
-     * Creates a copy of the original image where all non-transparent pixels are turned pure white.
-     * This saves us from having to manually create and load separate "white" versions of every sprite.
-     * @param original The source sprite.
-     * @return A pure white silhouette of the source sprite.
-     */
-    private static BufferedImage createWhiteSilhouette(BufferedImage original) {
-        BufferedImage whiteImg = new BufferedImage(
-                original.getWidth(),
-                original.getHeight(),
-                BufferedImage.TYPE_INT_ARGB
-        );
-
-        for (int x = 0; x < original.getWidth(); x++) {
-            for (int y = 0; y < original.getHeight(); y++) {
-                int p = original.getRGB(x, y);
-
-                // Extract Alpha channel
-                int a = (p >> 24) & 0xff;
-
-                // If pixel is not transparent, paint it White
-                if (a > 0) {
-                    // ARGB: Alpha + R(255) + G(255) + B(255)
-                    int whiteColor = (a << 24) | (255 << 16) | (255 << 8) | 255;
-                    whiteImg.setRGB(x, y, whiteColor);
+     * Converts an image to the pixel format of the screen ("compatible image"), with the smallest
+     * transparency its pixels need. Drawing it then needs no format conversion, and Java2D can keep
+     * a copy in video memory (managed image) and stay on the accelerated pipeline.
+     * ImageIO returns whatever the PNG decodes to (e.g. TYPE_4BYTE_ABGR), which matches no screen.
+     * @return The compatible image (the same one if it already is, or when running headless).
+     */
+    private static BufferedImage toCompatible(BufferedImage img) {
+        if (img == null || screenConfig == null) return img;
+
+        int transparency = transparencyOf(img);
+        if (img.getColorModel().equals(screenConfig.getColorModel(transparency))) return img;
+
+        BufferedImage compatible = screenConfig.createCompatibleImage(img.getWidth(), img.getHeight(), transparency);
+        Graphics2D g = compatible.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+        return compatible;
+    }
+
+    /**
+     * @return OPAQUE if every pixel is opaque (backgrounds), BITMASK if every pixel is fully opaque
+     *         or fully transparent, TRANSLUCENT otherwise (soft edges).
+     */
+    private static int transparencyOf(BufferedImage img) {
+        if (img.getColorModel().getTransparency() == Transparency.OPAQUE) return Transparency.OPAQUE;
+
+        Raster alpha = img.getAlphaRaster();
+        if (alpha == null) return img.getColorModel().getTransparency();
+
+        int[] row = new int[img.getWidth()];
+        boolean opaque = true;
+        for (int y = 0; y < img.getHeight(); y++) {
+            alpha.getSamples(0, y, row.length, 1, 0, row);
+            for (int a : row) {
+                if (a != 255) {
+                    if (a != 0) return Transparency.TRANSLUCENT;
+                    opaque = false;
                 }
             }
         }
-        return whiteImg;
+        return opaque ? Transparency.OPAQUE : Transparency.BITMASK;
     }
 
     /**
-     * Generates a Black Silhouette (Used for empty hearts).
+     * Gives the image a sprite id (see getSpriteId).
+     * @return The same image, for chaining.
      */
-    private static BufferedImage createBlackSilhouette(BufferedImage original) {
-        BufferedImage blackImg = new BufferedImage(original.getWidth(), original.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        for (int x = 0; x < original.getWidth(); x++) {
-            for (int y = 0; y < original.getHeight(); y++) {
-                int p = original.getRGB(x, y);
-                int a = (p >> 24) & 0xff;
-
-                // If pixel is not transparent, paint it Black
-                if (a > 0) {
-                    // ARGB: Alpha + R(0) + G(0) + B(0)
-                    int blackColor = (a << 24) | (0) | (0);
-                    blackImg.setRGB(x, y, blackColor);
+    private static BufferedImage registerSprite(BufferedImage img) {
+        if (img != null && !spriteIds.containsKey(img)) {
+            spriteIds.put(img, sprites.size());
+            sprites.add(img);
+            scaledSprites.add(NO_SIZES);
+        }
+        return img;
+    }
+
+    /**
+     * @return The id of a loaded sprite, or -1 if the image is null or unknown.
+     */
+    public static int getSpriteId(BufferedImage img) {
+        if (img == null) return -1;
+        Integer id = spriteIds.get(img);
+        return (id != null) ? id : -1;
+    }
+
+    /**
+     * @return The sprite with the given id, or null for -1.
+     */
+    public static BufferedImage getSprite(int id) {
+        return (id >= 0 && id < sprites.size()) ? sprites.get(id) : null;
+    }
+
+    /**
+     * Returns a sprite at the size it is drawn at.
+     * @param id Sprite id (see getSpriteId).
+     * @return The copy pre-scaled to exactly width x height (drawn with a 1:1 blit),
+     *         or the sprite itself if it was never pre-scaled to that size, or null for -1.
+     */
+    public static BufferedImage getScaledSprite(int id, int width, int height) {
+        if (id < 0 || id >= sprites.size()) return null;
+        BufferedImage img = getOrientedSprite(id, width, height, 0);
+        return (img != null) ? img : sprites.get(id);
+    }
+
+    /**
+     * Same as getScaledSprite(int, int, int), for a sprite held directly (HUD icons, screens).
+     */
+    public static BufferedImage getScaledSprite(BufferedImage sprite, int width, int height) {
+        return getScaledSprite(getSpriteId(sprite), width, height);
+    }
+
+    /**
+     * Orientation-aware lookup: a sprite pre-scaled to the given size and pre-mirrored,
+     * so even a mirrored sprite is drawn with a plain 1:1 blit.
+     * @param id Sprite id (see getSpriteId).
+     * @param orientation MIRROR_X and/or MIRROR_Y, or 0 for the sprite as loaded.
+     * @return The copy, or null if this size / orientation was not generated
+     *         (the caller then scales or mirrors getScaledSprite() while drawing).
+     */
+    public static BufferedImage getOrientedSprite(int id, int width, int height, int orientation) {
+        if (id < 0 || id >= sprites.size()) return null;
+        for (ScaledSprite scaled : scaledSprites.get(id)) {
+            if (scaled.hasSize(width, height)) return scaled.orientations[orientation];
+        }
+        return null;
+    }
+
+    /**
+     * Same as getOrientedSprite(int, int, int, int), for a sprite held directly (backgrounds).
+     */
+    public static BufferedImage getOrientedSprite(BufferedImage sprite, int width, int height, int orientation) {
+        return getOrientedSprite(getSpriteId(sprite), width, height, orientation);
+    }
+
+    /**
+     * Atlas lookup: the region holding a sprite at the given size and orientation.
+     * @param id Sprite id (see getSpriteId).
+     * @param orientation MIRROR_X and/or MIRROR_Y, or 0 for the sprite as loaded.
+     * @return The region (drawn with a 1:1 blit from its page), or null if that size / orientation
+     *         was not packed (see getScaledSprite for the fallback).
+     */
+    public static SpriteAtlas.Region getSpriteRegion(int id, int width, int height, int orientation) {
+        if (id < 0 || id >= sprites.size()) return null;
+        for (ScaledSprite scaled : scaledSprites.get(id)) {
+            if (scaled.hasSize(width, height)) return scaled.regions[orientation];
+        }
+        return null;
+    }
+
+    /**
+     * Same as getSpriteRegion(int, int, int, int), for a sprite held directly (HUD icons).
+     */
+    public static SpriteAtlas.Region getSpriteRegion(BufferedImage sprite, int width, int height, int orientation) {
+        return getSpriteRegion(getSpriteId(sprite), width, height, orientation);
+    }
+
+    /**
+     * Returns the pixel-perfect hitbox of a sprite.
+     * @param sprite The sprite (as stored in the GameObject).
+     * @param mirrored True if the sprite is drawn horizontally flipped.
+     * @return The mask, or null if the sprite has no mask (the object keeps its geometric hitbox).
+     */
+    public static CollisionMask getCollisionMask(BufferedImage sprite, boolean mirrored) {
+        CollisionMask[] masks = collisionMasks.get(sprite);
+        if (masks == null) return null;
+        return masks[mirrored ? 1 : 0];
+    }
+
+    /**
+     * Builds the normal and mirrored collision masks of a sprite at its on-screen size,
+     * from the copies drawn on screen (call after prescale() and premirror()).
+     */
+    private static void registerCollisionMask(BufferedImage sprite, int width, int height) {
+        if (sprite == null) return;
+        prescale(width, height, sprite); // No-op if this size was already pre-scaled
+
+        BufferedImage normal = getOrientedSprite(sprite, width, height, 0);
+        BufferedImage mirrored = getOrientedSprite(sprite, width, height, MIRROR_X);
+        collisionMasks.put(sprite, new CollisionMask[] {
+                createCollisionMask(normal, false),
+                // Not pre-mirrored: the renderer flips the scaled copy while drawing, an exact mirror of it
+                (mirrored != null) ? createCollisionMask(mirrored, false) : createCollisionMask(normal, true)
+        });
+    }
+
+    /**
+     * Generates a Collision Mask from the alpha channel of an image, pixel for pixel.
+     * Built from a pre-scaled copy (bilinear, see scaleImage), so the mask matches the sprite
+     * exactly as it is drawn: a 1:1 blit of that same copy.
+     * @param drawn The pre-scaled copy (its size is the on-screen size).
+     * @param mirrored If true, the mask is flipped horizontally.
+     * @return The 1-bit mask.
+     */
+    private static CollisionMask createCollisionMask(BufferedImage drawn, boolean mirrored) {
+        int width = drawn.getWidth();
+        int height = drawn.getHeight();
+        CollisionMask mask = new CollisionMask(width, height);
+        WritableRaster alpha = drawn.getAlphaRaster(); // null for an opaque image: every pixel is solid
+        int[] row = new int[width];
+
+        for (int y = 0; y < height; y++) {
+            if (alpha != null) {
+                alpha.getSamples(0, y, width, 1, 0, row);
+            } else {
+                Arrays.fill(row, 0xff);
+            }
+            for (int x = 0; x < width; x++) {
+                if (row[x] >= MASK_ALPHA_THRESHOLD) {
+                    mask.setSolid(mirrored ? width - 1 - x : x, y);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Stores copies of the sprites scaled to one on-screen size (sprites not loaded are skipped).
+     */
+    private static void prescale(int width, int height, BufferedImage... sprites) {
+        for (BufferedImage sprite : sprites) {
+            if (sprite != null && getScaledSprite(sprite, width, height) == sprite) {
+                addScaled(sprite, scaleImage(sprite, width, height));
+            }
+        }
+    }
+
+    /**
+     * Pre-scales a sprite drawn at a changing size, like the Player's Sun (one size per HP point):
+     * the sizes width * k / levels for k = 1..levels, rounded like Sun.getDrawWidth().
+     *
+     * They are scaled from a mip chain (the full size, halved again and again down to MIP_MIN_SIZE):
+     * each size comes from the smallest level that is not smaller, so it needs one small bilinear step.
+     */
+    private static void prescaleMipChain(BufferedImage sprite, int width, int height, int levels) {
+        if (sprite == null) return;
+
+        // 1. Mip chain
+        List<BufferedImage> mips = new ArrayList<>();
+        BufferedImage mip = scaleImage(sprite, width, height);
+        mips.add(mip);
+        while (mip.getWidth() / 2 >= MIP_MIN_SIZE && mip.getHeight() / 2 >= MIP_MIN_SIZE) {
+            mip = resample(mip, mip.getWidth() / 2, mip.getHeight() / 2);
+            mips.add(mip);
+        }
+
+        // 2. One image per size
+        for (int k = 1; k <= levels; k++) {
+            double ratio = (double) k / levels;
+            int w = (int) (width * ratio);
+            int h = (int) (height * ratio);
+            if (w <= 0 || h <= 0 || getScaledSprite(sprite, w, h) != sprite) continue;
+
+            BufferedImage source = mips.get(0);
+            for (BufferedImage level : mips) {
+                if (level.getWidth() >= w && level.getHeight() >= h) source = level;
+            }
+            addScaled(sprite, (source.getWidth() == w && source.getHeight() == h) ? source : resample(source, w, h));
+        }
+    }
+
+    private static void addScaled(BufferedImage sprite, BufferedImage scaled) {
+        int id = getSpriteId(sprite);
+        ScaledSprite[] sizes = scaledSprites.get(id);
+        ScaledSprite[] grown = Arrays.copyOf(sizes, sizes.length + 1);
+        grown[sizes.length] = new ScaledSprite(toCompatible(scaled));
+        scaledSprites.set(id, grown);
+    }
+
+    /**
+     * Generates the mirrored copies of every pre-scaled size of the sprites (call after prescale()).
+     * @param orientation MIRROR_X and/or MIRROR_Y.
+     */
+    private static void premirror(int orientation, BufferedImage... sprites) {
+        for (BufferedImage sprite : sprites) {
+            if (sprite == null) continue;
+            for (ScaledSprite scaled : scaledSprites.get(getSpriteId(sprite))) {
+                scaled.orientations[orientation] = mirror(scaled.orientations[0], orientation);
+            }
+        }
+    }
+
+    /**
+     * Packs every pre-scaled size and orientation of the sprites into the texture atlas, then replaces
+     * the separate images with views of the atlas pages (no pixel is kept twice).
+     * @param excluded Sprites kept out of the atlas (the backgrounds: one of them would fill a page).
+     */
+    private static void packAtlas(BufferedImage... excluded) {
+        List<BufferedImage> images = new ArrayList<>();
+        List<ScaledSprite> owners = new ArrayList<>();
+        List<Integer> orientations = new ArrayList<>();
+
+        // 1. Collect
+        for (int id = 0; id < sprites.size(); id++) {
+            if (Arrays.asList(excluded).contains(sprites.get(id))) continue;
+            for (ScaledSprite scaled : scaledSprites.get(id)) {
+                for (int o = 0; o < scaled.orientations.length; o++) {
+                    if (scaled.orientations[o] == null) continue;
+                    images.add(scaled.orientations[o]);
+                    owners.add(scaled);
+                    orientations.add(o);
+                }
+            }
+        }
+
+        // 2. Pack, and point every size / orientation to its region
+        atlas = new SpriteAtlas(images, screenConfig);
+        for (int i = 0; i < images.size(); i++) {
+            SpriteAtlas.Region region = atlas.getRegion(i);
+            ScaledSprite scaled = owners.get(i);
+            scaled.regions[orientations.get(i)] = region;
+            scaled.orientations[orientations.get(i)] = region.toImage();
+        }
+        System.out.println("Sprite atlas: " + images.size() + " sprites in " + atlas.getPageCount() + " page(s)");
+    }
+
+    /**
+     * Exact copy of an image, mirrored. Copies the raw samples row by row through the Raster
+     * (no resampling, no color conversion), so it works for any image type.
+     */
+    private static BufferedImage mirror(BufferedImage src, int orientation) {
+        int width = src.getWidth();
+        int height = src.getHeight();
+        int bands = src.getRaster().getNumBands();
+        WritableRaster raster = src.getRaster().createCompatibleWritableRaster();
+        int[] row = new int[width * bands];
+        int[] pixel = new int[bands];
+
+        for (int y = 0; y < height; y++) {
+            src.getRaster().getPixels(0, y, width, 1, row);
+            if ((orientation & MIRROR_X) != 0) {
+                // Swap the pixels (groups of 'bands' samples) from both ends
+                for (int left = 0, right = (width - 1) * bands; left < right; left += bands, right -= bands) {
+                    System.arraycopy(row, left, pixel, 0, bands);
+                    System.arraycopy(row, right, row, left, bands);
+                    System.arraycopy(pixel, 0, row, right, bands);
                 }
             }
+            raster.setPixels(0, (orientation & MIRROR_Y) != 0 ? height - 1 - y : y, width, 1, row);
+        }
+        return new BufferedImage(src.getColorModel(), raster, src.isAlphaPremultiplied(), null);
+    }
+
+    /**
+     * High quality downscaling: halves the image (bilinear, i.e. averaging 2x2 pixels) while it is
+     * more than twice the target size, then one last bilinear step to the exact size.
+     * A single bilinear (or nearest neighbour) step from 2000 to 100 pixels would skip most of the pixels.
+     */
+    private static BufferedImage scaleImage(BufferedImage original, int width, int height) {
+        BufferedImage img = original;
+        while (img.getWidth() / 2 >= width || img.getHeight() / 2 >= height) {
+            int w = (img.getWidth() / 2 >= width) ? img.getWidth() / 2 : img.getWidth();
+            int h = (img.getHeight() / 2 >= height) ? img.getHeight() / 2 : img.getHeight();
+            img = resample(img, w, h);
+        }
+        return resample(img, width, height);
+    }
+
+    private static BufferedImage resample(BufferedImage src, int width, int height) {
+        BufferedImage dst = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = dst.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(src, 0, 0, width, height, null);
+        g.dispose();
+        return dst;
+    }
+
+    /**
+     * Generates "Hit Flash" effects dynamically.
+     * Creates copies of the original images where all non-transparent pixels are turned pure white.
+     * This saves us from having to manually create and load separate "white" versions of every sprite.
+     * @param originals The source sprites.
+     * @return Pure white silhouettes of the source sprites, in the same order.
+     */
+    private static BufferedImage[] createWhiteSilhouettes(BufferedImage... originals) {
+        BufferedImage[] whiteImgs = SpritePipeline.applyAll(PixelFilter.WHITE_SILHOUETTE, originals);
+        for (int i = 0; i < whiteImgs.length; i++) {
+            whiteImgs[i] = registerSprite(toCompatible(whiteImgs[i]));
         }
-        return blackImg;
+        return whiteImgs;
+    }
+
+    /**
+     * Generates a Black Silhouette (Used for empty hearts).
+     */
+    private static BufferedImage createBlackSilhouette(BufferedImage original) {
+        return registerSprite(toCompatible(SpritePipeline.apply(original, PixelFilter.BLACK_SILHOUETTE)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SpriteAtlas Class
+ *
+ * Packs many small images into a few large "pages" (texture atlas), built once at startup
+ * by ResourceManager with every sprite drawn while playing (pre-scaled, mirrored and hit flashes).
+ *
+ * Why: every separate image is a separate surface for the accelerated pipeline (its own texture,
+ * its own video memory rounding). Drawing from a few pages means fewer surface switches,
+ * and the sprites share the memory of a page instead of padding each texture on their own.
+ *
+ * Packing ("shelf" algorithm): the images are sorted by height, then placed left to right on
+ * shelves, a new shelf starts when a row is full and a new page when a page is full.
+ * Sorting by height keeps the gaps above the shorter images of a shelf small.
+ * Each page is then trimmed to the height actually used.
+ *
+ * Every packed image gets a Region: a handle (page + rectangle) drawn with a 1:1 blit.
+ */
+public class SpriteAtlas {
+
+    public static final int PAGE_SIZE = 1024; // Side of a page (a texture size every GPU supports)
+    private static final int PADDING = 1;     // Transparent gap around the regions (no bleeding if a draw is filtered)
+
+    /**
+     * Handle to one packed image: a rectangle of a page.
+     */
+    public static final class Region {
+        private final BufferedImage page;
+        private final int x, y, width, height;
+
+        private Region(BufferedImage page, int x, int y, int width, int height) {
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Draws the region at its own size (1:1 copy from the page).
+         */
+        public void draw(Graphics g, int dx, int dy) {
+            g.drawImage(page, dx, dy, dx + width, dy + height, x, y, x + width, y + height, null);
+        }
+
+        /**
+         * @return A view of the region (shares the pixels of the page, see BufferedImage.getSubimage).
+         */
+        public BufferedImage toImage() {
+            return page.getSubimage(x, y, width, height);
+        }
+
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+    }
+
+    private final List<BufferedImage> pages = new ArrayList<>();
+    private final Region[] regions;
+
+    /**
+     * Packs the images.
+     * @param images Images to pack (each one at most PAGE_SIZE - 2 * PADDING on each side).
+     * @param config Pixel format of the pages (the screen's), or null for TYPE_INT_ARGB_PRE (headless).
+     */
+    public SpriteAtlas(List<BufferedImage> images, GraphicsConfiguration config) {
+        int count = images.size();
+        regions = new Region[count];
+
+        // 1. Layout: tallest first
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> -images.get(i).getHeight())
+                .thenComparingInt(i -> -images.get(i).getWidth()));
+
+        int[] pageOf = new int[count];
+        int[] posX = new int[count];
+        int[] posY = new int[count];
+        List<Integer> pageHeights = new ArrayList<>();
+        int page = 0, shelfX = 0, shelfY = 0, shelfHeight = 0;
+        pageHeights.add(0);
+
+        for (int i : order) {
+            int w = images.get(i).getWidth() + 2 * PADDING;
+            int h = images.get(i).getHeight() + 2 * PADDING;
+            if (w > PAGE_SIZE || h > PAGE_SIZE) throw new IllegalArgumentException("Image too large for the atlas: " + w + "x" + h);
+
+            if (shelfX + w > PAGE_SIZE) { // Row full: next shelf
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (shelfY + h > PAGE_SIZE) { // Page full: next page
+                page++;
+                pageHeights.add(0);
+                shelfX = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+
+            pageOf[i] = page;
+            posX[i] = shelfX + PADDING;
+            posY[i] = shelfY + PADDING;
+            shelfX += w;
+            shelfHeight = Math.max(shelfHeight, h);
+            pageHeights.set(page, Math.max(pageHeights.get(page), shelfY + h));
+        }
+
+        // 2. Pages, trimmed to the height used
+        for (int height : pageHeights) {
+            pages.add((config != null)
+                    ? config.createCompatibleImage(PAGE_SIZE, Math.max(height, 1), Transparency.TRANSLUCENT)
+                    : new BufferedImage(PAGE_SIZE, Math.max(height, 1), BufferedImage.TYPE_INT_ARGB_PRE));
+        }
+
+        // 3. Copy the images in
+        Graphics2D[] graphics = new Graphics2D[pages.size()];
+        for (int p = 0; p < pages.size(); p++) {
+            graphics[p] = pages.get(p).createGraphics();
+            graphics[p].setComposite(AlphaComposite.Src);
+        }
+        for (int i = 0; i < count; i++) {
+            BufferedImage img = images.get(i);
+            graphics[pageOf[i]].drawImage(img, posX[i], posY[i], null);
+            regions[i] = new Region(pages.get(pageOf[i]), posX[i], posY[i], img.getWidth(), img.getHeight());
+        }
+        for (Graphics2D g : graphics) g.dispose();
+    }
+
+    /**
+     * @return The region of the i-th image given to the constructor.
+     */
+    public Region getRegion(int i) {
+        return regions[i];
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * @return Pixels of all the pages (the memory of the atlas is 4 bytes per pixel).
+     */
+    public long getPixelCount() {
+        long pixels = 0;
+        for (BufferedImage page : pages) pixels += (long) page.getWidth() * page.getHeight();
+        return pixels;
+    }
+}
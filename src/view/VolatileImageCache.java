@@ -0,0 +1,61 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * VolatileImageCache Class
+ *
+ * Keeps copies of large static images (the backgrounds, the title screen) in VolatileImages,
+ * i.e. directly in video memory, where drawing them is an accelerated copy on the GPU.
+ *
+ * A VolatileImage can lose its contents at any time (display mode change, another application
+ * taking the video memory, a locked screen on Windows...). Every draw validates it first:
+ * - IMAGE_RESTORED: the surface came back empty, the source image is copied into it again.
+ * - IMAGE_INCOMPATIBLE: the surface no longer matches the screen (e.g. the window moved to another
+ *   monitor), a new one is created.
+ * and draws again if the contents were lost during the draw itself (contents-lost recovery).
+ *
+ * Not thread-safe: belongs to one GameRenderer (always the same drawing thread).
+ */
+class VolatileImageCache {
+
+    private final Map<BufferedImage, VolatileImage> images = new IdentityHashMap<>();
+
+    /**
+     * Draws the image at its own size, through its copy in video memory.
+     * @param source A static image (its pixels must never change).
+     */
+    void draw(Graphics2D g, BufferedImage source, int x, int y) {
+        GraphicsConfiguration config = g.getDeviceConfiguration();
+        VolatileImage image = images.get(source);
+
+        do {
+            // 1. Make sure the surface exists, matches the screen and holds the image
+            int status = (image == null) ? VolatileImage.IMAGE_INCOMPATIBLE : image.validate(config);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (image != null) image.flush();
+                image = config.createCompatibleVolatileImage(source.getWidth(), source.getHeight(),
+                        source.getColorModel().getTransparency());
+                images.put(source, image);
+                status = VolatileImage.IMAGE_RESTORED;
+            }
+            if (status == VolatileImage.IMAGE_RESTORED) {
+                copy(source, image);
+            }
+
+            // 2. Draw it (again, if it was lost meanwhile)
+            g.drawImage(image, x, y, null);
+        } while (image.contentsLost());
+    }
+
+    private static void copy(BufferedImage source, VolatileImage target) {
+        Graphics2D g = target.createGraphics();
+        g.setComposite(AlphaComposite.Src); // Also copies the transparent pixels (a new surface is not cleared)
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+    }
+}